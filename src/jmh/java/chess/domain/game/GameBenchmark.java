@@ -0,0 +1,45 @@
+package chess.domain.game;
+
+import chess.dao.dto.GameDto;
+import chess.dao.dto.PieceDto;
+import chess.dao.dto.RoomDto;
+import chess.utils.MiddleGamePositions;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class GameBenchmark {
+
+    private static final long GAME_ID = 1L;
+
+    @Param({MiddleGamePositions.ITALIAN, MiddleGamePositions.OPEN_FILES})
+    private String position;
+
+    private GameDto gameDto;
+    private RoomDto roomDto;
+    private List<PieceDto> pieceDtos;
+
+    @Setup
+    public void setUp() {
+        gameDto = GameDto.of(GAME_ID, "white", false, LocalDateTime.now());
+        roomDto = RoomDto.of(1L, GAME_ID, 1L, 2L, "bench");
+        pieceDtos = MiddleGamePositions.generatePieceDtos(GAME_ID, position);
+    }
+
+    @Benchmark
+    public Game of() {
+        return GameFactory.of(gameDto, pieceDtos, roomDto);
+    }
+
+}
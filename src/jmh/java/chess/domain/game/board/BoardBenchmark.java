@@ -0,0 +1,71 @@
+package chess.domain.game.board;
+
+import chess.domain.game.board.piece.Piece;
+import chess.domain.game.board.piece.location.Location;
+import chess.domain.game.team.Team;
+import chess.utils.MiddleGamePositions;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class BoardBenchmark {
+
+    @Param({MiddleGamePositions.ITALIAN, MiddleGamePositions.OPEN_FILES})
+    private String position;
+
+    private Board board;
+    private List<Location[]> candidateMoves;
+    private List<Location[]> movableMoves;
+
+    @Setup
+    public void setUp() {
+        board = MiddleGamePositions.generateBoard(position);
+        candidateMoves = new ArrayList<>();
+        movableMoves = new ArrayList<>();
+        for (final Piece piece : board.toList()) {
+            if (piece.isSameTeam(Team.WHITE)) {
+                addCandidateMoves(piece.getLocation());
+            }
+        }
+    }
+
+    private void addCandidateMoves(final Location source) {
+        for (int y = 1; y <= 8; y++) {
+            for (int x = 1; x <= 8; x++) {
+                final Location[] move = {source, Location.of(x, y)};
+                candidateMoves.add(move);
+                if (board.isMovable(source, move[1], Team.WHITE)) {
+                    movableMoves.add(move);
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public void validateMove(final Blackhole blackhole) {
+        for (final Location[] move : movableMoves) {
+            board.validateMove(move[0], move[1], Team.WHITE);
+            blackhole.consume(move);
+        }
+    }
+
+    @Benchmark
+    public void isMovable(final Blackhole blackhole) {
+        for (final Location[] move : candidateMoves) {
+            blackhole.consume(board.isMovable(move[0], move[1], Team.WHITE));
+        }
+    }
+
+}
@@ -0,0 +1,59 @@
+package chess.domain.game.board;
+
+import chess.domain.game.team.Team;
+import chess.utils.MiddleGamePositions;
+import java.util.concurrent.ForkJoinPool;
+
+public class PerftRunner {
+
+    private static final int DEFAULT_DEPTH = 5;
+
+    private PerftRunner() {
+    }
+
+    public static void main(final String[] args) {
+        final int depth = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_DEPTH;
+        final int parallelism =
+            args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+        final ForkJoinPool forkJoinPool = new ForkJoinPool(parallelism);
+        try {
+            run("INITIAL", Board.createWithInitialLocation(), depth, forkJoinPool);
+            run(MiddleGamePositions.ITALIAN,
+                MiddleGamePositions.generateBoard(MiddleGamePositions.ITALIAN), depth - 1,
+                forkJoinPool);
+            run(MiddleGamePositions.OPEN_FILES,
+                MiddleGamePositions.generateBoard(MiddleGamePositions.OPEN_FILES), depth - 1,
+                forkJoinPool);
+        } finally {
+            forkJoinPool.shutdown();
+        }
+    }
+
+    private static void run(final String name, final Board board, final int depth,
+        final ForkJoinPool forkJoinPool) {
+
+        long start = System.nanoTime();
+        final long nodes = Perft.count(board, Team.WHITE, depth);
+        final long sequentialNanos = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        final long parallelNodes = Perft.countParallel(board, Team.WHITE, depth, forkJoinPool);
+        final long parallelNanos = System.nanoTime() - start;
+
+        System.out.printf("%-10s depth=%d nodes=%d%n", name, depth, nodes);
+        System.out.printf("  single   : %,d nodes/s (%d ms)%n",
+            nodesPerSecond(nodes, sequentialNanos), sequentialNanos / 1_000_000);
+        System.out.printf("  fork-join: %,d nodes/s (%d ms, parallelism=%d)%n",
+            nodesPerSecond(parallelNodes, parallelNanos), parallelNanos / 1_000_000,
+            forkJoinPool.getParallelism());
+        if (nodes != parallelNodes) {
+            throw new IllegalStateException(
+                String.format("%s: 병렬 노드 수(%d)가 다릅니다.", name, parallelNodes));
+        }
+    }
+
+    private static long nodesPerSecond(final long nodes, final long nanos) {
+        return nodes * 1_000_000_000L / Math.max(nanos, 1L);
+    }
+
+}
@@ -0,0 +1,69 @@
+package chess.domain.game.board;
+
+import chess.domain.game.team.Team;
+import chess.utils.MiddleGamePositions;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+public class SearchScalingRunner {
+
+    private static final int DEFAULT_MOVE_TIME_MS = 2000;
+    private static final int TABLE_SIZE_MB = 64;
+
+    private SearchScalingRunner() {
+    }
+
+    public static void main(final String[] args) {
+        final int moveTimeMs = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_MOVE_TIME_MS;
+        final int maxThreads =
+            args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+        final ExecutorService helperExecutor = Executors.newFixedThreadPool(maxThreads);
+        try {
+            warmUp(moveTimeMs, helperExecutor);
+            run("INITIAL", Board.createWithInitialLocation(), moveTimeMs, maxThreads,
+                helperExecutor);
+            run(MiddleGamePositions.ITALIAN,
+                MiddleGamePositions.generateBoard(MiddleGamePositions.ITALIAN), moveTimeMs,
+                maxThreads, helperExecutor);
+            run(MiddleGamePositions.OPEN_FILES,
+                MiddleGamePositions.generateBoard(MiddleGamePositions.OPEN_FILES), moveTimeMs,
+                maxThreads, helperExecutor);
+        } finally {
+            helperExecutor.shutdownNow();
+        }
+    }
+
+    private static void warmUp(final int moveTimeMs, final ExecutorService helperExecutor) {
+        final long deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(moveTimeMs);
+        LazySmpSearch.search(Board.createWithInitialLocation(), Team.WHITE,
+            AlphaBetaSearch.MAX_DEPTH, deadlineNanos, new TranspositionTable(TABLE_SIZE_MB), 0,
+            helperExecutor);
+    }
+
+    private static void run(final String name, final Board board, final int moveTimeMs,
+        final int maxThreads, final ExecutorService helperExecutor) {
+
+        System.out.printf("%-10s move time=%d ms%n", name, moveTimeMs);
+        long baseNodesPerSecond = 0L;
+        for (int threads = 1; threads <= maxThreads; threads *= 2) {
+            final long start = System.nanoTime();
+            final SearchResult searchResult = LazySmpSearch.search(board, Team.WHITE,
+                AlphaBetaSearch.MAX_DEPTH, start + TimeUnit.MILLISECONDS.toNanos(moveTimeMs),
+                new TranspositionTable(TABLE_SIZE_MB), threads - 1, helperExecutor);
+            final long nodesPerSecond =
+                nodesPerSecond(searchResult.getNodes(), System.nanoTime() - start);
+            if (threads == 1) {
+                baseNodesPerSecond = nodesPerSecond;
+            }
+            System.out.printf("  threads=%-3d: %,d nodes/s (x%.2f, depth=%d)%n", threads,
+                nodesPerSecond, (double) nodesPerSecond / Math.max(baseNodesPerSecond, 1L),
+                searchResult.getDepth());
+        }
+    }
+
+    private static long nodesPerSecond(final long nodes, final long nanos) {
+        return nodes * 1_000_000_000L / Math.max(nanos, 1L);
+    }
+
+}
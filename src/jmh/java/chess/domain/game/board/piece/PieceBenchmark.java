@@ -0,0 +1,79 @@
+package chess.domain.game.board.piece;
+
+import chess.domain.game.board.piece.location.Location;
+import chess.domain.game.team.Team;
+import chess.utils.MiddleGamePositions;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class PieceBenchmark {
+
+    @Param({MiddleGamePositions.ITALIAN, MiddleGamePositions.OPEN_FILES})
+    private String position;
+
+    private List<Piece> slidingPieces;
+    private List<Location> targets;
+    private List<Piece> pawns;
+
+    @Setup
+    public void setUp() {
+        slidingPieces = new ArrayList<>();
+        targets = new ArrayList<>();
+        pawns = new ArrayList<>();
+        for (final Piece piece : MiddleGamePositions.generateBoard(position).toList()) {
+            if (piece.isPawn()) {
+                pawns.add(piece);
+            }
+            if (piece.isSameTeam(Team.WHITE) && !piece.isPawn()) {
+                addReachableTargets(piece);
+            }
+        }
+    }
+
+    private void addReachableTargets(final Piece piece) {
+        for (int y = 1; y <= 8; y++) {
+            for (int x = 1; x <= 8; x++) {
+                final Location target = Location.of(x, y);
+                if (!piece.isHere(target) && piece.isMovable(target)) {
+                    slidingPieces.add(piece);
+                    targets.add(target);
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public void findPath(final Blackhole blackhole) {
+        for (int i = 0; i < slidingPieces.size(); i++) {
+            blackhole.consume(slidingPieces.get(i).findPath(targets.get(i)));
+        }
+    }
+
+    @Benchmark
+    public void pawnIsMovable(final Blackhole blackhole) {
+        for (final Piece pawn : pawns) {
+            for (int dx = -1; dx <= 1; dx++) {
+                if (pawn.getLocation().isRangeByStep(dx, 1)) {
+                    blackhole.consume(pawn.isMovable(pawn.getLocation().moveByStep(dx, 1)));
+                }
+                if (pawn.getLocation().isRangeByStep(dx, -1)) {
+                    blackhole.consume(pawn.isMovable(pawn.getLocation().moveByStep(dx, -1)));
+                }
+            }
+        }
+    }
+
+}
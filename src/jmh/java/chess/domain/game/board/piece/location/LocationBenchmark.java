@@ -0,0 +1,35 @@
+package chess.domain.game.board.piece.location;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class LocationBenchmark {
+
+    private String[] coordinates;
+
+    @Setup
+    public void setUp() {
+        coordinates = new String[64];
+        for (int i = 0; i < coordinates.length; i++) {
+            coordinates[i] = String.format("%c%d", 'a' + i % 8, i / 8 + 1);
+        }
+    }
+
+    @Benchmark
+    public void convert(final Blackhole blackhole) {
+        for (final String coordinate : coordinates) {
+            blackhole.consume(Location.convert(coordinate));
+        }
+    }
+
+}
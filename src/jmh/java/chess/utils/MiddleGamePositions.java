@@ -0,0 +1,57 @@
+package chess.utils;
+
+import chess.dao.dto.PieceDto;
+import chess.domain.game.board.Board;
+import chess.domain.game.board.piece.Piece;
+import java.util.ArrayList;
+import java.util.List;
+
+public class MiddleGamePositions {
+
+    public static final String ITALIAN = "ITALIAN";
+    public static final String OPEN_FILES = "OPEN_FILES";
+
+    private static final char[][] ITALIAN_BOARD = {
+        {'R', '.', 'B', 'Q', '.', 'R', 'K', '.'},
+        {'P', 'P', 'P', '.', '.', 'P', 'P', 'P'},
+        {'.', '.', 'N', 'P', '.', 'N', '.', '.'},
+        {'.', '.', 'B', '.', 'P', '.', '.', '.'},
+        {'.', '.', 'b', '.', 'p', '.', '.', '.'},
+        {'.', '.', 'p', 'p', '.', 'n', '.', '.'},
+        {'p', 'p', '.', '.', '.', 'p', 'p', 'p'},
+        {'r', 'n', 'b', 'q', '.', 'r', 'k', '.'}
+    };
+
+    private static final char[][] OPEN_FILES_BOARD = {
+        {'.', '.', 'R', '.', '.', 'R', 'K', '.'},
+        {'P', 'P', '.', '.', 'Q', 'P', 'P', 'P'},
+        {'.', '.', '.', 'B', '.', 'N', '.', '.'},
+        {'.', '.', '.', 'p', '.', '.', '.', '.'},
+        {'.', '.', '.', '.', '.', '.', '.', '.'},
+        {'.', '.', 'n', '.', '.', 'b', '.', '.'},
+        {'p', 'p', '.', '.', 'q', 'p', 'p', 'p'},
+        {'.', '.', 'r', '.', '.', 'r', 'k', '.'}
+    };
+
+    private MiddleGamePositions() {
+    }
+
+    public static Board generateBoard(final String name) {
+        if (OPEN_FILES.equals(name)) {
+            return BoardUtil.generateBoard(OPEN_FILES_BOARD);
+        }
+        return BoardUtil.generateBoard(ITALIAN_BOARD);
+    }
+
+    public static List<PieceDto> generatePieceDtos(final long gameId, final String name) {
+        final List<Piece> pieces = generateBoard(name).toList();
+        final List<PieceDto> pieceDtos = new ArrayList<>();
+        for (int i = 0; i < pieces.size(); i++) {
+            final Piece piece = pieces.get(i);
+            pieceDtos.add(PieceDto.of(i + 1, gameId, piece.getX(), piece.getY(),
+                piece.getTeamValue(), piece.getPieceTypeValue()));
+        }
+        return pieceDtos;
+    }
+
+}
@@ -0,0 +1,31 @@
+package chess.config;
+
+import chess.domain.user.UserRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class MetricsConfig {
+
+    private static final String CACHE_GETS = "cache.gets";
+    private static final String USER_CACHE = "users";
+
+    @Bean
+    public MeterBinder userCacheMetrics(final UserRepository userRepository) {
+        return registry -> {
+            FunctionCounter.builder(CACHE_GETS, userRepository,
+                UserRepository::getCacheHitCount)
+                .tags("cache", USER_CACHE, "result", "hit")
+                .description("유저 캐시에서 찾은 횟수")
+                .register(registry);
+            FunctionCounter.builder(CACHE_GETS, userRepository,
+                UserRepository::getCacheMissCount)
+                .tags("cache", USER_CACHE, "result", "miss")
+                .description("유저 캐시에 없어서 DB에서 읽은 횟수")
+                .register(registry);
+        };
+    }
+
+}
@@ -0,0 +1,51 @@
+package chess.config;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+
+@Configuration
+@ConditionalOnProperty(name = "chess.virtual-threads.enabled", havingValue = "true")
+public class VirtualThreadConfig {
+
+    private static final String CLIENT_INBOUND_CHANNEL = "clientInboundChannel";
+
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer() {
+        return protocolHandler -> protocolHandler.setExecutor(
+            VirtualThreads.newThreadPerTaskExecutor()
+        );
+    }
+
+    // ChannelRegistration은 ThreadPoolTaskExecutor만 받으므로 채널을 바꿔 끼운다.
+    @Bean
+    public static BeanPostProcessor virtualThreadInboundChannelPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(final Object bean,
+                final String beanName) {
+
+                if (CLIENT_INBOUND_CHANNEL.equals(beanName)
+                    && bean instanceof ExecutorSubscribableChannel) {
+                    return onVirtualThreads((ExecutorSubscribableChannel) bean);
+                }
+                return bean;
+            }
+        };
+    }
+
+    private static ExecutorSubscribableChannel onVirtualThreads(
+        final ExecutorSubscribableChannel channel) {
+
+        final ExecutorSubscribableChannel virtualThreadChannel =
+            new ExecutorSubscribableChannel(new VirtualThreadTaskExecutor());
+        virtualThreadChannel.setBeanName(CLIENT_INBOUND_CHANNEL);
+        virtualThreadChannel.setLogger(channel.getLogger());
+        virtualThreadChannel.setInterceptors(channel.getInterceptors());
+        return virtualThreadChannel;
+    }
+
+}
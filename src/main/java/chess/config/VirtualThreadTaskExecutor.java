@@ -0,0 +1,32 @@
+package chess.config;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import org.springframework.core.task.AsyncTaskExecutor;
+
+public class VirtualThreadTaskExecutor implements AsyncTaskExecutor {
+
+    private final ExecutorService executorService = VirtualThreads.newThreadPerTaskExecutor();
+
+    @Override
+    public void execute(final Runnable task) {
+        executorService.execute(task);
+    }
+
+    @Override
+    public void execute(final Runnable task, final long startTimeout) {
+        execute(task);
+    }
+
+    @Override
+    public Future<?> submit(final Runnable task) {
+        return executorService.submit(task);
+    }
+
+    @Override
+    public <T> Future<T> submit(final Callable<T> task) {
+        return executorService.submit(task);
+    }
+
+}
@@ -0,0 +1,29 @@
+package chess.config;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+public class VirtualThreads {
+
+    private VirtualThreads() {
+    }
+
+    public static ExecutorService newThreadPerTaskExecutor() {
+        try {
+            return (ExecutorService) Executors.class
+                .getMethod("newVirtualThreadPerTaskExecutor")
+                .invoke(null);
+        } catch (final NoSuchMethodException | IllegalAccessException
+            | InvocationTargetException e) {
+            throw unsupported(e);
+        }
+    }
+
+    private static IllegalStateException unsupported(final Exception e) {
+        return new IllegalStateException(
+            "가상 스레드를 지원하지 않는 JDK입니다. JDK 21 이상에서 실행해야 합니다.", e
+        );
+    }
+
+}
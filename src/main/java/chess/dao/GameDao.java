@@ -1,11 +1,11 @@
 package chess.dao;
 
-import chess.dao.dto.GameDto;
 import java.sql.PreparedStatement;
 import java.sql.Statement;
+import java.util.List;
+import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.PreparedStatementCreator;
-import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.support.GeneratedKeyHolder;
 import org.springframework.stereotype.Repository;
 
@@ -13,12 +13,6 @@ import org.springframework.stereotype.Repository;
 public class GameDao {
 
     private final JdbcTemplate jdbcTemplate;
-    private final RowMapper<GameDto> gameRowMapper = (resultSet, rowNum) -> GameDto.of(
-        resultSet.getLong("id"),
-        resultSet.getString("turn"),
-        resultSet.getBoolean("is_finished"),
-        resultSet.getTimestamp("created_time").toLocalDateTime()
-    );
 
     public GameDao(final JdbcTemplate jdbcTemplate) {
         this.jdbcTemplate = jdbcTemplate;
@@ -36,24 +30,44 @@ public class GameDao {
         return keyHolder.getKey().longValue();
     }
 
-    public GameDto selectById(final long gameId) {
-        final String sql = "SELECT * FROM game WHERE id = ?";
-        return jdbcTemplate.queryForObject(sql, gameRowMapper, gameId);
+    public GameRowCallbackHandler selectWithRoomAndPieces(final long gameId) {
+        final String sql = "SELECT g.id, g.turn, g.is_finished, g.snapshot_ply, g.created_time, "
+            + "r.id AS room_id, r.host_id, r.guest_id, r.name, t.move_tail_size, "
+            + "p.id AS piece_id, p.shape, p.color, p.x, p.y "
+            + "FROM game g "
+            + "JOIN room r ON r.game_id = g.id "
+            + "CROSS JOIN (SELECT COUNT(*) AS move_tail_size FROM move m "
+            + "JOIN game s ON s.id = m.game_id "
+            + "WHERE s.id = ? AND m.ply > s.snapshot_ply) t "
+            + "LEFT JOIN piece p ON p.game_id = g.id "
+            + "WHERE g.id = ?";
+        final GameRowCallbackHandler gameRowCallbackHandler = new GameRowCallbackHandler();
+        jdbcTemplate.query(sql, gameRowCallbackHandler, gameId, gameId);
+        if (gameRowCallbackHandler.isEmpty()) {
+            throw new EmptyResultDataAccessException(1);
+        }
+        return gameRowCallbackHandler;
     }
 
-    public void updateGameStatus(final long id, final boolean isFinished) {
-        final String sql = "UPDATE game SET is_finished = ? WHERE id = ?";
-        jdbcTemplate.update(sql, isFinished, id);
+    public List<Long> selectIdsWaitingFor(final long userId) {
+        final String sql = "SELECT g.id FROM game g "
+            + "JOIN room r ON r.game_id = g.id "
+            + "WHERE g.is_finished = false "
+            + "AND ((r.host_id = ? AND g.turn = 'white') OR (r.guest_id = ? AND g.turn = 'black'))";
+        return jdbcTemplate.queryForList(sql, Long.class, userId, userId);
     }
 
-    public void updateTurn(final long id, final String turn) {
-        final String sql = "UPDATE game SET turn = ? WHERE id = ?";
-        jdbcTemplate.update(sql, turn, id);
+    public int updateVersion(final long id, final int version, final int expectedVersion) {
+        final String sql = "UPDATE game SET version = ? WHERE id = ? AND version = ?";
+        return jdbcTemplate.update(sql, version, id, expectedVersion);
     }
 
-    public void reverseTurn(final long id) {
-        final String sql = "UPDATE game SET turn = (CASE WHEN turn = 'black' THEN 'white' ELSE 'black' END) WHERE id = ?";
-        jdbcTemplate.update(sql, id);
+    public void updateSnapshot(final long id, final String turn, final boolean isFinished,
+        final int snapshotPly) {
+
+        final String sql =
+            "UPDATE game SET turn = ?, is_finished = ?, snapshot_ply = ? WHERE id = ?";
+        jdbcTemplate.update(sql, turn, isFinished, snapshotPly, id);
     }
 
 }
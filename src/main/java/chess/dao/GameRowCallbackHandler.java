@@ -0,0 +1,81 @@
+package chess.dao;
+
+import chess.dao.dto.GameDto;
+import chess.dao.dto.RoomDto;
+import chess.domain.game.board.piece.Piece;
+import chess.domain.game.utils.PieceConverter;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+public class GameRowCallbackHandler implements RowCallbackHandler {
+
+    private static final int MAX_PIECE_COUNT = 32;
+
+    private final List<Piece> pieces = new ArrayList<>(MAX_PIECE_COUNT);
+    private GameDto gameDto;
+    private RoomDto roomDto;
+    private int moveTailSize;
+
+    @Override
+    public void processRow(final ResultSet resultSet) throws SQLException {
+        if (gameDto == null) {
+            gameDto = mapGame(resultSet);
+            roomDto = mapRoom(resultSet);
+            moveTailSize = resultSet.getInt("move_tail_size");
+        }
+        final long pieceId = resultSet.getLong("piece_id");
+        if (!resultSet.wasNull()) {
+            pieces.add(PieceConverter.run(
+                pieceId,
+                resultSet.getString("shape").charAt(0),
+                resultSet.getString("color"),
+                resultSet.getInt("x"),
+                resultSet.getInt("y")
+            ));
+        }
+    }
+
+    private GameDto mapGame(final ResultSet resultSet) throws SQLException {
+        return GameDto.of(
+            resultSet.getLong("id"),
+            resultSet.getString("turn"),
+            resultSet.getBoolean("is_finished"),
+            resultSet.getInt("snapshot_ply"),
+            resultSet.getTimestamp("created_time").toLocalDateTime()
+        );
+    }
+
+    private RoomDto mapRoom(final ResultSet resultSet) throws SQLException {
+        return RoomDto.of(
+            resultSet.getLong("room_id"),
+            resultSet.getLong("id"),
+            resultSet.getLong("host_id"),
+            (Long) resultSet.getObject("guest_id"),
+            resultSet.getString("name")
+        );
+    }
+
+    public boolean isEmpty() {
+        return gameDto == null;
+    }
+
+    public GameDto getGameDto() {
+        return gameDto;
+    }
+
+    public RoomDto getRoomDto() {
+        return roomDto;
+    }
+
+    public List<Piece> getPieces() {
+        return pieces;
+    }
+
+    public int getMoveTailSize() {
+        return moveTailSize;
+    }
+
+}
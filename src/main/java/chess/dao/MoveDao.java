@@ -0,0 +1,64 @@
+package chess.dao;
+
+import chess.dao.dto.MoveDto;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.List;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class MoveDao {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final RowMapper<MoveDto> moveRowMapper = (resultSet, rowNum) -> MoveDto.of(
+        resultSet.getLong("game_id"),
+        resultSet.getInt("ply"),
+        resultSet.getString("source"),
+        resultSet.getString("target"),
+        (Long) resultSet.getObject("captured_piece_id"),
+        resultSet.getTimestamp("created_time").toLocalDateTime()
+    );
+
+    public MoveDao(final JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void insertAll(final List<MoveDto> moveDtos) {
+        final String sql = "INSERT INTO move(game_id, ply, source, target, captured_piece_id, "
+            + "created_time) VALUES(?,?,?,?,?,?)";
+
+        jdbcTemplate.batchUpdate(sql, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(final PreparedStatement ps, final int i) throws SQLException {
+                final MoveDto moveDto = moveDtos.get(i);
+                ps.setLong(1, moveDto.getGameId());
+                ps.setInt(2, moveDto.getPly());
+                ps.setString(3, moveDto.getSource());
+                ps.setString(4, moveDto.getTarget());
+                if (moveDto.getCapturedPieceId() == null) {
+                    ps.setNull(5, Types.BIGINT);
+                } else {
+                    ps.setLong(5, moveDto.getCapturedPieceId());
+                }
+                ps.setTimestamp(6, Timestamp.valueOf(moveDto.getCreatedTime()));
+            }
+
+            @Override
+            public int getBatchSize() {
+                return moveDtos.size();
+            }
+        });
+    }
+
+    public List<MoveDto> selectAfterPly(final long gameId, final int ply) {
+        final String sql = "SELECT game_id, ply, source, target, captured_piece_id, created_time "
+            + "FROM move WHERE game_id = ? AND ply > ? ORDER BY ply";
+        return jdbcTemplate.query(sql, moveRowMapper, gameId, ply);
+    }
+
+}
@@ -1,27 +1,20 @@
 package chess.dao;
 
-import chess.dao.dto.PieceDto;
 import chess.domain.game.board.piece.Piece;
+import chess.domain.game.board.piece.location.Location;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import org.springframework.jdbc.core.BatchPreparedStatementSetter;
 import org.springframework.jdbc.core.JdbcTemplate;
-import org.springframework.jdbc.core.RowMapper;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public class PieceDao {
 
     private final JdbcTemplate jdbcTemplate;
-    private final RowMapper<PieceDto> pieceRowMapper = (resultSet, rowNum) -> PieceDto.of(
-        resultSet.getLong("id"),
-        resultSet.getLong("game_id"),
-        resultSet.getInt("x"),
-        resultSet.getInt("y"),
-        resultSet.getString("color"),
-        resultSet.getString("shape").charAt(0)
-    );
 
     public PieceDao(final JdbcTemplate jdbcTemplate) {
         this.jdbcTemplate = jdbcTemplate;
@@ -48,11 +41,6 @@ public class PieceDao {
         });
     }
 
-    public List<PieceDto> selectAll(final long gameId) {
-        final String sql = "SELECT * FROM piece WHERE game_id = ?";
-        return jdbcTemplate.query(sql, pieceRowMapper, gameId);
-    }
-
     public void deleteBatchByIds(final List<Long> ids) {
         final String sql = "DELETE FROM piece WHERE id = ?";
 
@@ -69,24 +57,24 @@ public class PieceDao {
         });
     }
 
-    public void updateBatch(final List<PieceDto> pieceDtos) {
+    public void updateLocationBatch(final Map<Long, Location> locations) {
         final String sql = "UPDATE piece SET x = ?, y = ? WHERE id = ?";
+        final List<Map.Entry<Long, Location>> entries = new ArrayList<>(locations.entrySet());
 
         jdbcTemplate.batchUpdate(sql, new BatchPreparedStatementSetter() {
             @Override
             public void setValues(final PreparedStatement ps, final int i) throws SQLException {
-                final PieceDto pieceDto = pieceDtos.get(i);
-                ps.setInt(1, pieceDto.getX());
-                ps.setInt(2, pieceDto.getY());
-                ps.setLong(3, pieceDto.getId());
+                final Map.Entry<Long, Location> entry = entries.get(i);
+                ps.setInt(1, entry.getValue().getX());
+                ps.setInt(2, entry.getValue().getY());
+                ps.setLong(3, entry.getKey());
             }
 
             @Override
             public int getBatchSize() {
-                return pieceDtos.size();
+                return entries.size();
             }
         });
-
     }
 
 }
@@ -51,9 +51,19 @@ public class RoomDao {
         return jdbcTemplate.queryForObject(sql, roomRowMapper, id);
     }
 
-    public List<RoomDto> selectBatchWithEmptyGuest() {
-        final String sql = "SELECT * FROM room WHERE guest_id IS NULL";
-        return jdbcTemplate.query(sql, roomRowMapper);
+    public List<RoomDto> selectBatchWithEmptyGuest(final long after, final int limit,
+        final String namePrefix) {
+
+        final String sql = "SELECT id, game_id, host_id, guest_id, name FROM room "
+            + "WHERE guest_id IS NULL AND id > ? AND name LIKE ? ESCAPE '!' "
+            + "ORDER BY id LIMIT ?";
+        return jdbcTemplate.query(sql, roomRowMapper, after, toLikePrefix(namePrefix), limit);
+    }
+
+    private String toLikePrefix(final String namePrefix) {
+        return namePrefix.replace("!", "!!")
+            .replace("%", "!%")
+            .replace("_", "!_") + "%";
     }
 
     public void updateGuestById(final long guestId, final long id) {
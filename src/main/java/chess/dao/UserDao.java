@@ -3,6 +3,10 @@ package chess.dao;
 import chess.dao.dto.UserDto;
 import java.sql.PreparedStatement;
 import java.sql.Statement;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.PreparedStatementCreator;
 import org.springframework.jdbc.core.RowMapper;
@@ -38,6 +42,11 @@ public class UserDao {
         return keyHolder.getKey().longValue();
     }
 
+    public void updatePassword(final long id, final String password) {
+        final String sql = "UPDATE user SET password = ? WHERE id = ?";
+        jdbcTemplate.update(sql, password, id);
+    }
+
     public UserDto selectByName(final String name) {
         final String sql = "SELECT * FROM user WHERE name = ?";
         return jdbcTemplate.queryForObject(sql, userRowMapper, name);
@@ -48,4 +57,16 @@ public class UserDao {
         return jdbcTemplate.queryForObject(sql, userRowMapper, id);
     }
 
+    public List<UserDto> selectByIds(final Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return Collections.emptyList();
+        }
+        final String placeholders = ids.stream()
+            .map(id -> "?")
+            .collect(Collectors.joining(", "));
+        final String sql = "SELECT id, name, password, created_time FROM user WHERE id IN ("
+            + placeholders + ")";
+        return jdbcTemplate.query(sql, userRowMapper, ids.toArray());
+    }
+
 }
@@ -7,21 +7,29 @@ public class GameDto {
     private final long id;
     private final String turn;
     private final boolean isFinished;
+    private final int snapshotPly;
     private final LocalDateTime createdTime;
 
     private GameDto(final long id, final String turn, final boolean isFinished,
-        final LocalDateTime createdTime) {
+        final int snapshotPly, final LocalDateTime createdTime) {
 
         this.id = id;
         this.turn = turn;
         this.isFinished = isFinished;
+        this.snapshotPly = snapshotPly;
         this.createdTime = createdTime;
     }
 
     public static GameDto of(final long id, final String turn,
         final boolean isFinished, final LocalDateTime createdTime) {
 
-        return new GameDto(id, turn, isFinished, createdTime);
+        return new GameDto(id, turn, isFinished, 0, createdTime);
+    }
+
+    public static GameDto of(final long id, final String turn, final boolean isFinished,
+        final int snapshotPly, final LocalDateTime createdTime) {
+
+        return new GameDto(id, turn, isFinished, snapshotPly, createdTime);
     }
 
     public long getId() {
@@ -36,6 +44,10 @@ public class GameDto {
         return isFinished;
     }
 
+    public int getSnapshotPly() {
+        return snapshotPly;
+    }
+
     public LocalDateTime getCreatedTime() {
         return createdTime;
     }
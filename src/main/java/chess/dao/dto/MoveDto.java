@@ -0,0 +1,67 @@
+package chess.dao.dto;
+
+import chess.domain.game.MoveRecord;
+import java.time.LocalDateTime;
+
+public class MoveDto {
+
+    private final long gameId;
+    private final int ply;
+    private final String source;
+    private final String target;
+    private final Long capturedPieceId;
+    private final LocalDateTime createdTime;
+
+    private MoveDto(final long gameId, final int ply, final String source, final String target,
+        final Long capturedPieceId, final LocalDateTime createdTime) {
+
+        this.gameId = gameId;
+        this.ply = ply;
+        this.source = source;
+        this.target = target;
+        this.capturedPieceId = capturedPieceId;
+        this.createdTime = createdTime;
+    }
+
+    public static MoveDto of(final long gameId, final int ply, final String source,
+        final String target, final Long capturedPieceId, final LocalDateTime createdTime) {
+
+        return new MoveDto(gameId, ply, source, target, capturedPieceId, createdTime);
+    }
+
+    public static MoveDto of(final long gameId, final MoveRecord moveRecord) {
+        return new MoveDto(
+            gameId,
+            moveRecord.getPly(),
+            moveRecord.getSource().toNotation(),
+            moveRecord.getTarget().toNotation(),
+            moveRecord.getCapturedPieceId(),
+            moveRecord.getCreatedTime()
+        );
+    }
+
+    public long getGameId() {
+        return gameId;
+    }
+
+    public int getPly() {
+        return ply;
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    public String getTarget() {
+        return target;
+    }
+
+    public Long getCapturedPieceId() {
+        return capturedPieceId;
+    }
+
+    public LocalDateTime getCreatedTime() {
+        return createdTime;
+    }
+
+}
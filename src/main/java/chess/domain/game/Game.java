@@ -1,14 +1,18 @@
 package chess.domain.game;
 
 import chess.domain.game.board.Board;
+import chess.domain.game.board.MoveBuffer;
 import chess.domain.game.board.MoveFailureException;
+import chess.domain.game.board.MoveGenerator;
 import chess.domain.game.board.piece.Piece;
 import chess.domain.game.board.piece.location.Location;
 import chess.domain.game.room.Room;
 import chess.domain.game.team.Team;
+import chess.exception.GameConflictException;
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Map;
+import java.util.function.IntPredicate;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Collectors;
 
 public class Game {
@@ -16,17 +20,23 @@ public class Game {
     private final long id;
     private final LocalDateTime createdTime;
     private final Board board;
-    private final Room room;
+    private final ReentrantLock lock = new ReentrantLock();
+    private Room room;
     private Team turn;
     private boolean isFinished;
+    private int ply;
+    private int persistedPly;
+    private GameChangeSet changeSet = new GameChangeSet();
 
     private Game(final long id, final LocalDateTime createdTime, final Team turn,
-        final boolean isFinished, final Board board, final Room room) {
+        final boolean isFinished, final int ply, final Board board, final Room room) {
 
         this.id = id;
         this.createdTime = createdTime;
         this.turn = turn;
         this.isFinished = isFinished;
+        this.ply = ply;
+        this.persistedPly = ply;
         this.board = board;
         this.room = room;
     }
@@ -34,7 +44,21 @@ public class Game {
     public static Game of(final long id, final LocalDateTime createdTime, final Team turn,
         final boolean isFinished, final Board board, final Room room) {
 
-        return new Game(id, createdTime, turn, isFinished, board, room);
+        return new Game(id, createdTime, turn, isFinished, 0, board, room);
+    }
+
+    public static Game of(final long id, final LocalDateTime createdTime, final Team turn,
+        final boolean isFinished, final int ply, final Board board, final Room room) {
+
+        return new Game(id, createdTime, turn, isFinished, ply, board, room);
+    }
+
+    public void lock() {
+        lock.lock();
+    }
+
+    public void unlock() {
+        lock.unlock();
     }
 
     public boolean checkMovement(final String source, final String target, final Team turn) {
@@ -44,15 +68,103 @@ public class Game {
         return board.isMovable(Location.convert(source), Location.convert(target), turn);
     }
 
+    public MoveBuffer bringMovableMoves(final Team turn) {
+        final MoveBuffer moveBuffer = new MoveBuffer();
+        if (isFinished || !this.turn.equals(turn)) {
+            return moveBuffer;
+        }
+        MoveGenerator.generatePseudoLegalMoves(board, turn, moveBuffer);
+        return moveBuffer;
+    }
+
+    public void move(final String source, final String target, final Team turn,
+        final IntPredicate plyClaim) {
+
+        validateGameOver();
+        board.validateMove(Location.convert(source), Location.convert(target), turn);
+        if (!plyClaim.test(ply + 1)) {
+            throw new GameConflictException(String.format(
+                "다른 곳에서 먼저 수를 두었습니다. 게임을 새로 불러와 주세요. (gameId: %d)", id
+            ));
+        }
+        move(source, target, turn);
+    }
+
     public void move(final String source, final String target, final Team turn) {
         validateGameOver();
-        board.move(Location.convert(source), Location.convert(target), turn);
+        final Location sourceLocation = Location.convert(source);
+        final Location targetLocation = Location.convert(target);
+        final Piece targetPiece = findIfExistent(targetLocation);
+
+        board.move(sourceLocation, targetLocation, turn);
+        recordPly(sourceLocation, targetLocation, targetPiece);
+        recordCapture(targetPiece);
+        changeSet.recordMove(board.find(targetLocation).getId(), targetLocation);
         if (board.isKingCatch()) {
             this.isFinished = true;
+            toPieceIds().forEach(changeSet::recordCapture);
             board.clearPieces();
+            changeSet.recordStatus(this.turn, true);
             return;
         }
         this.turn = turn.reverse();
+        changeSet.recordStatus(this.turn, false);
+    }
+
+    private Piece findIfExistent(final Location location) {
+        if (board.isExistent(location)) {
+            return board.find(location);
+        }
+        return null;
+    }
+
+    private void recordPly(final Location source, final Location target,
+        final Piece capturedPiece) {
+
+        Long capturedPieceId = null;
+        if (capturedPiece != null) {
+            capturedPieceId = capturedPiece.getId();
+        }
+        changeSet.recordPly(
+            MoveRecord.of(++ply, source, target, capturedPieceId, LocalDateTime.now())
+        );
+    }
+
+    private void recordCapture(final Piece capturedPiece) {
+        if (capturedPiece != null) {
+            changeSet.recordCapture(capturedPiece.getId());
+        }
+    }
+
+    public void validatePly(final Integer expectedPly) {
+        if (expectedPly != null && expectedPly != ply) {
+            throw new GameConflictException(String.format(
+                "다른 수가 먼저 두어졌습니다. (요청 수: %d, 현재 수: %d)", expectedPly, ply
+            ));
+        }
+    }
+
+    public void markPersisted(final int ply) {
+        persistedPly = ply;
+    }
+
+    public GameChangeSet drainChanges() {
+        final GameChangeSet drainedChangeSet = changeSet;
+        changeSet = new GameChangeSet();
+        return drainedChangeSet;
+    }
+
+    public GameChangeSet drainMoveRecords() {
+        return changeSet.splitMoveRecords();
+    }
+
+    public int countPendingPlies() {
+        return changeSet.getPlyCount();
+    }
+
+    public void restoreChanges(final GameChangeSet olderChangeSet) {
+        olderChangeSet.mergeFrom(changeSet);
+        changeSet = olderChangeSet;
     }
 
     private void validateGameOver() {
@@ -61,17 +173,8 @@ public class Game {
         }
     }
 
-    public List<Piece> bringMovedPieces(final Game other) {
-        final Map<Long, Location> locations = toPieces().stream()
-            .collect(Collectors.toMap(Piece::getId, Piece::getLocation));
-
-        return other.toPieces()
-            .stream()
-            .filter(otherPiece -> locations.containsKey(otherPiece.getId()))
-            .filter(
-                otherPiece -> !otherPiece.getLocation().equals(locations.get(otherPiece.getId()))
-            )
-            .collect(Collectors.toList());
+    public void joinGuest(final long guestId) {
+        room = room.join(guestId);
     }
 
     public List<Long> toPieceIds() {
@@ -112,6 +215,14 @@ public class Game {
         return isFinished;
     }
 
+    public int getPly() {
+        return ply;
+    }
+
+    public int getPersistedPly() {
+        return persistedPly;
+    }
+
     public Board getBoard() {
         return board;
     }
@@ -0,0 +1,93 @@
+package chess.domain.game;
+
+import chess.domain.game.board.piece.location.Location;
+import chess.domain.game.team.Team;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public class GameChangeSet {
+
+    private final Map<Long, Location> movedPieces = new LinkedHashMap<>();
+    private final Set<Long> capturedPieceIds = new LinkedHashSet<>();
+    private final List<MoveRecord> moveRecords = new ArrayList<>();
+    private int plyCount;
+    private Team turn;
+    private boolean isFinished;
+    private boolean isStatusChanged;
+
+    public void recordMove(final long pieceId, final Location target) {
+        movedPieces.put(pieceId, target);
+    }
+
+    public void recordCapture(final long pieceId) {
+        movedPieces.remove(pieceId);
+        capturedPieceIds.add(pieceId);
+    }
+
+    public void recordStatus(final Team turn, final boolean isFinished) {
+        this.turn = turn;
+        this.isFinished = isFinished;
+        this.isStatusChanged = true;
+    }
+
+    public void recordPly(final MoveRecord moveRecord) {
+        moveRecords.add(moveRecord);
+        plyCount++;
+    }
+
+    public GameChangeSet splitMoveRecords() {
+        final GameChangeSet moveRecordSet = new GameChangeSet();
+        moveRecordSet.moveRecords.addAll(moveRecords);
+        moveRecords.clear();
+        return moveRecordSet;
+    }
+
+    public void mergeFrom(final GameChangeSet newer) {
+        newer.movedPieces.forEach(this::recordMove);
+        newer.capturedPieceIds.forEach(this::recordCapture);
+        if (newer.isStatusChanged) {
+            recordStatus(newer.turn, newer.isFinished);
+        }
+        moveRecords.addAll(newer.moveRecords);
+        plyCount += newer.plyCount;
+    }
+
+    public boolean isEmpty() {
+        return movedPieces.isEmpty() && capturedPieceIds.isEmpty() && !isStatusChanged
+            && moveRecords.isEmpty();
+    }
+
+    public Map<Long, Location> getMovedPieces() {
+        return Collections.unmodifiableMap(movedPieces);
+    }
+
+    public Set<Long> getCapturedPieceIds() {
+        return Collections.unmodifiableSet(capturedPieceIds);
+    }
+
+    public List<MoveRecord> getMoveRecords() {
+        return Collections.unmodifiableList(moveRecords);
+    }
+
+    public int getPlyCount() {
+        return plyCount;
+    }
+
+    public Team getTurn() {
+        return turn;
+    }
+
+    public boolean isFinished() {
+        return isFinished;
+    }
+
+    public boolean isStatusChanged() {
+        return isStatusChanged;
+    }
+
+}
@@ -1,6 +1,7 @@
 package chess.domain.game;
 
 import chess.dao.dto.GameDto;
+import chess.dao.dto.MoveDto;
 import chess.dao.dto.PieceDto;
 import chess.dao.dto.RoomDto;
 import chess.domain.game.board.Board;
@@ -21,12 +22,34 @@ public class GameFactory {
         return composeGame(gameDto, board, room);
     }
 
+    public static Game of(final GameDto gameDto, final List<PieceDto> pieceDtos,
+        final RoomDto roomDto, final List<MoveDto> moveDtos) {
+
+        return replay(of(gameDto, pieceDtos, roomDto), moveDtos);
+    }
+
+    public static Game of(final GameDto gameDto, final Board board, final RoomDto roomDto,
+        final List<MoveDto> moveDtos) {
+
+        return replay(composeGame(gameDto, board, roomDto.toEntity()), moveDtos);
+    }
+
+    private static Game replay(final Game game, final List<MoveDto> moveDtos) {
+        for (final MoveDto moveDto : moveDtos) {
+            game.move(moveDto.getSource(), moveDto.getTarget(), game.getTurn());
+        }
+        game.drainMoveRecords();
+        game.markPersisted(game.getPly());
+        return game;
+    }
+
     private static Game composeGame(final GameDto gameDto, final Board board, final Room room) {
         return Game.of(
             gameDto.getId(),
             gameDto.getCreatedTime(),
             Team.from(gameDto.getTurn()),
             gameDto.isFinished(),
+            gameDto.getSnapshotPly(),
             board,
             room
         );
@@ -0,0 +1,101 @@
+package chess.domain.game;
+
+import chess.exception.GameConflictException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+public class GameRegistry {
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final float LOAD_FACTOR = 0.75f;
+
+    private final int capacity;
+    private final Map<Long, Game> games =
+        new LinkedHashMap<>(INITIAL_CAPACITY, LOAD_FACTOR, true);
+    private final Set<Long> dirtyGameIds = new LinkedHashSet<>();
+    private final Set<Long> flushingGameIds = new HashSet<>();
+
+    public GameRegistry(final int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("레지스트리 크기는 0보다 커야 합니다.");
+        }
+        this.capacity = capacity;
+    }
+
+    public synchronized Optional<Game> find(final long gameId) {
+        return Optional.ofNullable(games.get(gameId));
+    }
+
+    public synchronized Game putIfAbsent(final Game game) {
+        final Game residentGame = games.get(game.getId());
+        if (residentGame != null) {
+            return residentGame;
+        }
+        evictCleanGames(capacity - 1);
+        games.put(game.getId(), game);
+        return game;
+    }
+
+    public synchronized void markDirty(final Game game) {
+        final Game residentGame = games.putIfAbsent(game.getId(), game);
+        if (residentGame != null && residentGame != game) {
+            throw new GameConflictException(String.format(
+                "이미 다시 불러온 게임입니다. 게임을 새로 불러와 주세요. (gameId: %d)", game.getId()
+            ));
+        }
+        dirtyGameIds.add(game.getId());
+    }
+
+    public synchronized List<Game> drainDirtyGames() {
+        final List<Game> dirtyGames = new ArrayList<>(dirtyGameIds.size());
+        for (final long gameId : dirtyGameIds) {
+            dirtyGames.add(games.get(gameId));
+        }
+        flushingGameIds.addAll(dirtyGameIds);
+        dirtyGameIds.clear();
+        return dirtyGames;
+    }
+
+    public synchronized void completeFlush(final Game game) {
+        flushingGameIds.remove(game.getId());
+        evictCleanGames(capacity);
+    }
+
+    public synchronized void replace(final Game game) {
+        games.put(game.getId(), game);
+        dirtyGameIds.remove(game.getId());
+        flushingGameIds.remove(game.getId());
+    }
+
+    public synchronized void evict(final long gameId) {
+        games.remove(gameId);
+        dirtyGameIds.remove(gameId);
+        flushingGameIds.remove(gameId);
+    }
+
+    public synchronized boolean isDirty(final long gameId) {
+        return dirtyGameIds.contains(gameId);
+    }
+
+    public synchronized int size() {
+        return games.size();
+    }
+
+    private void evictCleanGames(final int maxSize) {
+        final Iterator<Long> gameIds = games.keySet().iterator();
+        while (games.size() > maxSize && gameIds.hasNext()) {
+            final long gameId = gameIds.next();
+            if (!dirtyGameIds.contains(gameId) && !flushingGameIds.contains(gameId)) {
+                gameIds.remove();
+            }
+        }
+    }
+
+}
@@ -0,0 +1,19 @@
+package chess.domain.game;
+
+public class GameReloadedEvent {
+
+    private final long gameId;
+
+    private GameReloadedEvent(final long gameId) {
+        this.gameId = gameId;
+    }
+
+    public static GameReloadedEvent of(final long gameId) {
+        return new GameReloadedEvent(gameId);
+    }
+
+    public long getGameId() {
+        return gameId;
+    }
+
+}
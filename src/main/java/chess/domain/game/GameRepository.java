@@ -1,31 +1,73 @@
 package chess.domain.game;
 
 import chess.dao.GameDao;
+import chess.dao.GameRowCallbackHandler;
+import chess.dao.MoveDao;
 import chess.dao.PieceDao;
 import chess.dao.RoomDao;
 import chess.dao.dto.GameDto;
-import chess.dao.dto.PieceDto;
+import chess.dao.dto.MoveDto;
 import chess.dao.dto.RoomDto;
 import chess.domain.game.board.Board;
-import chess.domain.game.board.piece.Piece;
 import chess.domain.game.room.Room;
 import chess.domain.game.room.Rooms;
 import chess.domain.game.team.Team;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
+import javax.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Repository
 public class GameRepository {
 
+    private static final Logger logger = LoggerFactory.getLogger(GameRepository.class);
+
     private final GameDao gameDao;
     private final PieceDao pieceDao;
     private final RoomDao roomDao;
+    private final MoveDao moveDao;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final GameRegistry gameRegistry;
+    private final ScheduledExecutorService flushExecutor;
+    private final boolean isMoveLogEnabled;
+    private final int compactionInterval;
+
+    public GameRepository(final GameDao gameDao, final PieceDao pieceDao, final RoomDao roomDao,
+        final MoveDao moveDao, final TransactionTemplate transactionTemplate,
+        final ApplicationEventPublisher applicationEventPublisher,
+        @Value("${chess.game.registry.capacity:1000}") final int registryCapacity,
+        @Value("${chess.game.write-behind.flush-interval-ms:500}") final long flushIntervalMs,
+        @Value("${chess.game.move-log.enabled:false}") final boolean isMoveLogEnabled,
+        @Value("${chess.game.move-log.compaction-interval:20}") final int compactionInterval) {
 
-    public GameRepository(final GameDao gameDao, final PieceDao pieceDao, final RoomDao roomDao) {
         this.gameDao = gameDao;
         this.pieceDao = pieceDao;
         this.roomDao = roomDao;
+        this.moveDao = moveDao;
+        this.isMoveLogEnabled = isMoveLogEnabled;
+        this.compactionInterval = compactionInterval;
+        this.transactionTemplate = transactionTemplate;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.gameRegistry = new GameRegistry(registryCapacity);
+        this.flushExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "game-write-behind");
+            thread.setDaemon(true);
+            return thread;
+        });
+        flushExecutor.scheduleWithFixedDelay(
+            this::flush, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS
+        );
     }
 
     public long add(final String name, final long hostId) {
@@ -36,68 +78,168 @@ public class GameRepository {
     }
 
     public Game findById(final long gameId) {
-        final GameDto gameDto = gameDao.selectById(gameId);
-        final RoomDto roomDto = roomDao.selectByGameId(gameId);
-        final List<PieceDto> pieceDtos = pieceDao.selectAll(gameId);
-        return GameFactory.of(gameDto, pieceDtos, roomDto);
+        return gameRegistry.find(gameId)
+            .orElseGet(() -> gameRegistry.putIfAbsent(load(gameId)));
+    }
+
+    private Game load(final long gameId) {
+        final GameRowCallbackHandler loaded = gameDao.selectWithRoomAndPieces(gameId);
+        final GameDto gameDto = loaded.getGameDto();
+        List<MoveDto> moveDtos = Collections.emptyList();
+        if (loaded.getMoveTailSize() > 0) {
+            moveDtos = moveDao.selectAfterPly(gameId, gameDto.getSnapshotPly());
+        }
+        return GameFactory.of(gameDto, Board.of(loaded.getPieces()), loaded.getRoomDto(), moveDtos);
+    }
+
+    public List<Long> findGameIdsWaitingFor(final long userId) {
+        return gameDao.selectIdsWaitingFor(userId);
     }
 
     public long findGameIdByRoomId(final long roomId) {
         return roomDao.selectIdById(roomId).getGameId();
     }
 
-    public Rooms findEmptyRooms() {
-        final List<RoomDto> roomDtos = roomDao.selectBatchWithEmptyGuest();
+    public Rooms findEmptyRooms(final long after, final int limit, final String namePrefix) {
+        final List<RoomDto> roomDtos = roomDao.selectBatchWithEmptyGuest(after, limit, namePrefix);
         final List<Room> rooms = roomDtos.stream()
             .map(RoomDto::toEntity)
             .collect(Collectors.toList());
         return new Rooms(rooms);
     }
 
+    public Room findRoomByGameId(final long gameId) {
+        return roomDao.selectByGameId(gameId).toEntity();
+    }
+
     public Room findRoomById(final long roomId) {
         return roomDao.selectIdById(roomId).toEntity();
     }
 
     public void update(final Game game) {
-        final long gameId = game.getId();
-        updatePieces(gameId, game);
-        updateGameStatus(gameId, game.isFinished());
-        updateTurn(gameId, game.getTurn());
+        gameRegistry.markDirty(game);
     }
 
-    private void updatePieces(final long gameId, final Game modifiedGame) {
-        deletePieces(gameId, modifiedGame);
-        modifyPieces(gameId, modifiedGame);
+    public boolean claimPly(final Game game, final int ply) {
+        if (gameDao.updateVersion(game.getId(), ply, ply - 1) > 0) {
+            return true;
+        }
+        if (game.getPly() == game.getPersistedPly()) {
+            flushExecutor.execute(() -> reload(game.getId()));
+        }
+        return false;
     }
 
-    private void deletePieces(final long gameId, final Game modifiedGame) {
-        final List<Long> ids = findById(gameId).toPieceIds();
-        final List<Long> modifiedIds = modifiedGame.toPieceIds();
+    public void flush() {
+        for (final Game game : gameRegistry.drainDirtyGames()) {
+            try {
+                persist(game);
+            } catch (final RuntimeException e) {
+                gameRegistry.markDirty(game);
+                logger.error("게임 상태를 저장하지 못했습니다. gameId: {}", game.getId(), e);
+            } finally {
+                gameRegistry.completeFlush(game);
+            }
+        }
+    }
 
-        ids.removeAll(modifiedIds);
-        pieceDao.deleteBatchByIds(ids);
+    private void reload(final long gameId) {
+        try {
+            gameRegistry.replace(load(gameId));
+        } catch (final RuntimeException e) {
+            gameRegistry.evict(gameId);
+            logger.error("게임을 다시 불러오지 못했습니다. gameId: {}", gameId, e);
+        }
+        applicationEventPublisher.publishEvent(GameReloadedEvent.of(gameId));
     }
 
-    private void modifyPieces(final long gameId, final Game modifiedGame) {
-        final Game game = findById(gameId);
-        final List<Piece> pieces = game.bringMovedPieces(modifiedGame);
-        final List<PieceDto> pieceDtos = pieces.stream()
-            .map(piece -> PieceDto.of(gameId, piece))
-            .collect(Collectors.toList());
+    @PreDestroy
+    public void shutdown() {
+        flushExecutor.shutdown();
+        try {
+            flushExecutor.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+    }
 
-        pieceDao.updateBatch(pieceDtos);
+    private void persist(final Game game) {
+        final GameChangeSet changeSet;
+        final int ply;
+        game.lock();
+        try {
+            changeSet = game.drainMoveRecords();
+            if (isSnapshotDue(game)) {
+                changeSet.mergeFrom(game.drainChanges());
+            }
+            ply = game.getPly();
+        } finally {
+            game.unlock();
+        }
+        if (changeSet.isEmpty()) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(
+                status -> persistChanges(game.getId(), changeSet, ply)
+            );
+            game.lock();
+            try {
+                game.markPersisted(ply);
+            } finally {
+                game.unlock();
+            }
+        } catch (final RuntimeException e) {
+            game.lock();
+            try {
+                game.restoreChanges(changeSet);
+            } finally {
+                game.unlock();
+            }
+            throw e;
+        }
     }
 
-    private void updateGameStatus(final long gameId, boolean isFinished) {
-        gameDao.updateGameStatus(gameId, isFinished);
+    private boolean isSnapshotDue(final Game game) {
+        return !isMoveLogEnabled
+            || game.isFinished()
+            || game.countPendingPlies() >= compactionInterval;
     }
 
-    private void updateTurn(final long gameId, Team turn) {
-        gameDao.updateTurn(gameId, turn.getValue());
+    private void persistChanges(final long gameId, final GameChangeSet changeSet,
+        final int ply) {
+
+        if (isMoveLogEnabled) {
+            appendMoves(gameId, changeSet);
+        }
+        if (changeSet.isStatusChanged()) {
+            pieceDao.deleteBatchByIds(new ArrayList<>(changeSet.getCapturedPieceIds()));
+            pieceDao.updateLocationBatch(changeSet.getMovedPieces());
+            gameDao.updateSnapshot(
+                gameId, changeSet.getTurn().getValue(), changeSet.isFinished(), ply
+            );
+        }
+    }
+
+    private void appendMoves(final long gameId, final GameChangeSet changeSet) {
+        final List<MoveDto> moveDtos = changeSet.getMoveRecords().stream()
+            .map(moveRecord -> MoveDto.of(gameId, moveRecord))
+            .collect(Collectors.toList());
+        moveDao.insertAll(moveDtos);
     }
 
     public void joinGuest(final long guestId, final long roomId) {
         roomDao.updateGuestById(guestId, roomId);
+        final long gameId = findGameIdByRoomId(roomId);
+        gameRegistry.find(gameId).ifPresent(game -> {
+            game.lock();
+            try {
+                game.joinGuest(guestId);
+            } finally {
+                game.unlock();
+            }
+        });
     }
 
 }
@@ -0,0 +1,50 @@
+package chess.domain.game;
+
+import chess.domain.game.board.piece.location.Location;
+import java.time.LocalDateTime;
+
+public class MoveRecord {
+
+    private final int ply;
+    private final Location source;
+    private final Location target;
+    private final Long capturedPieceId;
+    private final LocalDateTime createdTime;
+
+    private MoveRecord(final int ply, final Location source, final Location target,
+        final Long capturedPieceId, final LocalDateTime createdTime) {
+
+        this.ply = ply;
+        this.source = source;
+        this.target = target;
+        this.capturedPieceId = capturedPieceId;
+        this.createdTime = createdTime;
+    }
+
+    public static MoveRecord of(final int ply, final Location source, final Location target,
+        final Long capturedPieceId, final LocalDateTime createdTime) {
+
+        return new MoveRecord(ply, source, target, capturedPieceId, createdTime);
+    }
+
+    public int getPly() {
+        return ply;
+    }
+
+    public Location getSource() {
+        return source;
+    }
+
+    public Location getTarget() {
+        return target;
+    }
+
+    public Long getCapturedPieceId() {
+        return capturedPieceId;
+    }
+
+    public LocalDateTime getCreatedTime() {
+        return createdTime;
+    }
+
+}
@@ -0,0 +1,305 @@
+package chess.domain.game.board;
+
+import chess.domain.game.board.piece.Piece;
+import chess.domain.game.board.piece.PieceType;
+import chess.domain.game.team.Team;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+public class AlphaBetaSearch {
+
+    public static final int MATE_SCORE = 1_000_000;
+    public static final int MAX_DEPTH = 32;
+
+    private static final int INFINITY = MATE_SCORE + 1;
+    private static final int MAX_PLY = 64;
+    private static final long DEADLINE_CHECK_MASK = 1023L;
+    private static final int DEFAULT_TABLE_SIZE_MB = 1;
+    private static final int NO_MOVE = -1;
+    private static final Consumer<SearchResult> IGNORE_ITERATION = searchResult -> {
+    };
+
+    private final MoveBuffer[] moveBuffers = new MoveBuffer[MAX_PLY + 1];
+    private final TranspositionTable transpositionTable;
+    private final long deadlineNanos;
+    private final AtomicBoolean stopped;
+    private long nodes;
+    private boolean isTimeUp;
+
+    private AlphaBetaSearch(final TranspositionTable transpositionTable,
+        final long deadlineNanos, final AtomicBoolean stopped) {
+
+        this.transpositionTable = transpositionTable;
+        this.deadlineNanos = deadlineNanos;
+        this.stopped = stopped;
+        for (int i = 0; i <= MAX_PLY; i++) {
+            moveBuffers[i] = new MoveBuffer();
+        }
+    }
+
+    public static SearchResult search(final Board board, final Team team, final int maxDepth,
+        final long deadlineNanos) {
+
+        return search(board, team, maxDepth, deadlineNanos,
+            new TranspositionTable(DEFAULT_TABLE_SIZE_MB));
+    }
+
+    public static SearchResult search(final Board board, final Team team, final int maxDepth,
+        final long deadlineNanos, final TranspositionTable transpositionTable) {
+
+        return search(board, team, maxDepth, deadlineNanos, transpositionTable,
+            new AtomicBoolean(), IGNORE_ITERATION);
+    }
+
+    public static SearchResult search(final Board board, final Team team, final int maxDepth,
+        final long deadlineNanos, final TranspositionTable transpositionTable,
+        final AtomicBoolean stopped, final Consumer<SearchResult> onIteration) {
+
+        return search(board, team, maxDepth, deadlineNanos, transpositionTable, stopped, 1,
+            onIteration);
+    }
+
+    static SearchResult search(final Board board, final Team team, final int maxDepth,
+        final long deadlineNanos, final TranspositionTable transpositionTable,
+        final AtomicBoolean stopped, final int firstDepth) {
+
+        return search(board, team, maxDepth, deadlineNanos, transpositionTable, stopped,
+            firstDepth, IGNORE_ITERATION);
+    }
+
+    private static SearchResult search(final Board board, final Team team, final int maxDepth,
+        final long deadlineNanos, final TranspositionTable transpositionTable,
+        final AtomicBoolean stopped, final int firstDepth,
+        final Consumer<SearchResult> onIteration) {
+
+        validateDepth(maxDepth);
+        return new AlphaBetaSearch(transpositionTable, deadlineNanos, stopped)
+            .iterate(board.copy(), team, Math.min(firstDepth, maxDepth), maxDepth, onIteration);
+    }
+
+    private static void validateDepth(final int depth) {
+        if (depth < 1 || MAX_DEPTH < depth) {
+            throw new IllegalArgumentException(
+                String.format("탐색 깊이는 1 이상 %d 이하여야 합니다.", MAX_DEPTH));
+        }
+    }
+
+    private SearchResult iterate(final Board board, final Team team, final int firstDepth,
+        final int maxDepth, final Consumer<SearchResult> onIteration) {
+
+        final MoveBuffer rootMoves = new MoveBuffer();
+        MoveGenerator.generateLegalMoves(board, team, rootMoves);
+        if (rootMoves.isEmpty()) {
+            MoveGenerator.generatePseudoLegalMoves(board, team, rootMoves);
+        }
+        if (rootMoves.isEmpty()) {
+            return SearchResult.empty(nodes);
+        }
+        orderCaptures(board, team, rootMoves);
+        final long rootEntry = transpositionTable.probe(board.zobristKey(team));
+        if (rootEntry != TranspositionTable.MISS) {
+            moveToFront(rootMoves, TranspositionTable.moveOf(rootEntry));
+        }
+
+        SearchResult result = SearchResult.of(
+            rootMoves.get(0), board.evaluate(team), 0, nodes
+        );
+        if (rootMoves.size() == 1) {
+            return result;
+        }
+        for (int depth = firstDepth;
+            depth <= maxDepth && !isDecisive(result.getScore()) && !stopped.get(); depth++) {
+
+            final SearchResult iteration = searchRoot(board, team, rootMoves, depth);
+            if (isTimeUp) {
+                return SearchResult.of(result.getMove(), result.getScore(), result.getDepth(),
+                    nodes);
+            }
+            result = iteration;
+            moveToFront(rootMoves, result.getMove());
+            onIteration.accept(result);
+        }
+        return result;
+    }
+
+    private SearchResult searchRoot(final Board board, final Team team,
+        final MoveBuffer rootMoves, final int depth) {
+
+        int alpha = -INFINITY;
+        int bestMove = rootMoves.get(0);
+        for (int i = 0; i < rootMoves.size() && !isTimeUp; i++) {
+            final int move = rootMoves.get(i);
+            final Piece capturedPiece = board.makeMove(move);
+            final int score = -negamax(board, team.reverse(), depth - 1, -INFINITY, -alpha, 1);
+            board.unmakeMove(move, capturedPiece);
+            if (score > alpha) {
+                alpha = score;
+                bestMove = move;
+            }
+        }
+        return SearchResult.of(bestMove, alpha, depth, nodes);
+    }
+
+    private int negamax(final Board board, final Team team, final int depth, int alpha,
+        final int beta, final int ply) {
+
+        if (isKingCaptured(board, team)) {
+            return -MATE_SCORE + ply;
+        }
+        if (depth == 0) {
+            return quiesce(board, team, alpha, beta, ply);
+        }
+        if (checkTimeUp()) {
+            return 0;
+        }
+        final long key = board.zobristKey(team);
+        final long entry = transpositionTable.probe(key);
+        if (entry != TranspositionTable.MISS && TranspositionTable.depthOf(entry) >= depth) {
+            final int score = fromTableScore(TranspositionTable.scoreOf(entry), ply);
+            final int bound = TranspositionTable.boundOf(entry);
+            if (bound == TranspositionTable.EXACT
+                || (bound == TranspositionTable.LOWER_BOUND && score >= beta)
+                || (bound == TranspositionTable.UPPER_BOUND && score <= alpha)) {
+                return score;
+            }
+        }
+        final MoveBuffer moveBuffer = moveBuffers[ply];
+        MoveGenerator.generateLegalMoves(board, team, moveBuffer);
+        if (moveBuffer.isEmpty()) {
+            return -MATE_SCORE + ply;
+        }
+        orderCaptures(board, team, moveBuffer);
+        if (entry != TranspositionTable.MISS) {
+            moveToFront(moveBuffer, TranspositionTable.moveOf(entry));
+        }
+
+        final int originalAlpha = alpha;
+        int bestMove = NO_MOVE;
+        for (int i = 0; i < moveBuffer.size(); i++) {
+            final int move = moveBuffer.get(i);
+            final Piece capturedPiece = board.makeMove(move);
+            final int score = -negamax(board, team.reverse(), depth - 1, -beta, -alpha,
+                ply + 1);
+            board.unmakeMove(move, capturedPiece);
+            if (isTimeUp) {
+                return 0;
+            }
+            if (score >= beta) {
+                transpositionTable.store(key, move, toTableScore(beta, ply), depth,
+                    TranspositionTable.LOWER_BOUND);
+                return beta;
+            }
+            if (score > alpha) {
+                alpha = score;
+                bestMove = move;
+            }
+        }
+        transpositionTable.store(key, bestMove, toTableScore(alpha, ply), depth,
+            alpha > originalAlpha ? TranspositionTable.EXACT : TranspositionTable.UPPER_BOUND);
+        return alpha;
+    }
+
+    private int quiesce(final Board board, final Team team, int alpha, final int beta,
+        final int ply) {
+
+        if (isKingCaptured(board, team)) {
+            return -MATE_SCORE + ply;
+        }
+        if (checkTimeUp()) {
+            return 0;
+        }
+        final int standPat = board.evaluate(team);
+        if (standPat >= beta) {
+            return beta;
+        }
+        alpha = Math.max(alpha, standPat);
+        if (ply >= MAX_PLY) {
+            return alpha;
+        }
+        final MoveBuffer moveBuffer = moveBuffers[ply];
+        MoveGenerator.generateLegalMoves(board, team, moveBuffer);
+        final long enemy = board.occupancy(team.reverse());
+        for (int i = 0; i < moveBuffer.size(); i++) {
+            final int move = moveBuffer.get(i);
+            if ((enemy & 1L << MoveBuffer.targetIndex(move)) != 0L) {
+                final Piece capturedPiece = board.makeMove(move);
+                final int score = -quiesce(board, team.reverse(), -beta, -alpha, ply + 1);
+                board.unmakeMove(move, capturedPiece);
+                if (isTimeUp) {
+                    return 0;
+                }
+                if (score >= beta) {
+                    return beta;
+                }
+                alpha = Math.max(alpha, score);
+            }
+        }
+        return alpha;
+    }
+
+    private boolean checkTimeUp() {
+        if ((++nodes & DEADLINE_CHECK_MASK) == 0L
+            && (stopped.get() || System.nanoTime() - deadlineNanos >= 0L)) {
+            isTimeUp = true;
+        }
+        return isTimeUp;
+    }
+
+    private static boolean isKingCaptured(final Board board, final Team team) {
+        return board.occupancy(team, PieceType.KING) == 0L;
+    }
+
+    private static boolean isDecisive(final int score) {
+        return Math.abs(score) >= MATE_SCORE - MAX_PLY;
+    }
+
+    // 메이트 점수는 저장하는 노드로부터의 거리로 바꿔 둔다.
+    private static int toTableScore(final int score, final int ply) {
+        if (score >= MATE_SCORE - MAX_PLY) {
+            return score + ply;
+        }
+        if (score <= -MATE_SCORE + MAX_PLY) {
+            return score - ply;
+        }
+        return score;
+    }
+
+    private static int fromTableScore(final int score, final int ply) {
+        if (score >= MATE_SCORE - MAX_PLY) {
+            return score - ply;
+        }
+        if (score <= -MATE_SCORE + MAX_PLY) {
+            return score + ply;
+        }
+        return score;
+    }
+
+    private static void orderCaptures(final Board board, final Team team,
+        final MoveBuffer moveBuffer) {
+
+        final long enemy = board.occupancy(team.reverse());
+        int captureCount = 0;
+        for (int i = 0; i < moveBuffer.size(); i++) {
+            final int move = moveBuffer.get(i);
+            if ((enemy & 1L << MoveBuffer.targetIndex(move)) != 0L) {
+                moveBuffer.set(i, moveBuffer.get(captureCount));
+                moveBuffer.set(captureCount++, move);
+            }
+        }
+    }
+
+    private static void moveToFront(final MoveBuffer moveBuffer, final int move) {
+        int index = 0;
+        while (index < moveBuffer.size() && moveBuffer.get(index) != move) {
+            index++;
+        }
+        if (index == moveBuffer.size()) {
+            return;
+        }
+        for (int i = index; i > 0; i--) {
+            moveBuffer.set(i, moveBuffer.get(i - 1));
+        }
+        moveBuffer.set(0, move);
+    }
+
+}
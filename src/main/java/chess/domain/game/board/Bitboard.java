@@ -0,0 +1,153 @@
+package chess.domain.game.board;
+
+import chess.domain.game.board.piece.location.Location;
+import chess.domain.game.team.Team;
+
+public class Bitboard {
+
+    public static final int SQUARE_COUNT = 64;
+    private static final int BOARD_SIZE = 8;
+    private static final int TEAM_COUNT = Team.values().length;
+    private static final int WHITE_PAWN_INITIAL_Y = 1;
+    private static final int BLACK_PAWN_INITIAL_Y = 6;
+    private static final int[][] ROOK_DIRECTIONS = {{0, 1}, {0, -1}, {1, 0}, {-1, 0}};
+    private static final int[][] BISHOP_DIRECTIONS = {{1, 1}, {1, -1}, {-1, 1}, {-1, -1}};
+    private static final int[][] KNIGHT_STEPS = {
+        {1, 2}, {2, 1}, {2, -1}, {1, -2}, {-1, -2}, {-2, -1}, {-2, 1}, {-1, 2}
+    };
+    private static final int[][] KING_STEPS = {
+        {0, 1}, {1, 1}, {1, 0}, {1, -1}, {0, -1}, {-1, -1}, {-1, 0}, {-1, 1}
+    };
+    private static final int[] PAWN_CAPTURE_DX = {-1, 1};
+
+    private static final long[][] BETWEEN = new long[SQUARE_COUNT][SQUARE_COUNT];
+    private static final long[] ROOK_RAYS = new long[SQUARE_COUNT];
+    private static final long[] BISHOP_RAYS = new long[SQUARE_COUNT];
+    private static final long[] KNIGHT_ATTACKS = new long[SQUARE_COUNT];
+    private static final long[] KING_ATTACKS = new long[SQUARE_COUNT];
+    private static final long[][] PAWN_PUSHES = new long[TEAM_COUNT][SQUARE_COUNT];
+    private static final long[][] PAWN_CAPTURES = new long[TEAM_COUNT][SQUARE_COUNT];
+
+    static {
+        for (int square = 0; square < SQUARE_COUNT; square++) {
+            ROOK_RAYS[square] = initializeRays(square, ROOK_DIRECTIONS);
+            BISHOP_RAYS[square] = initializeRays(square, BISHOP_DIRECTIONS);
+            KNIGHT_ATTACKS[square] = initializeSteps(square, KNIGHT_STEPS);
+            KING_ATTACKS[square] = initializeSteps(square, KING_STEPS);
+            for (final Team team : Team.values()) {
+                initializePawn(square, team);
+            }
+        }
+    }
+
+    private Bitboard() {
+    }
+
+    private static long initializeRays(final int source, final int[][] directions) {
+        long rays = 0L;
+        for (final int[] direction : directions) {
+            long path = 0L;
+            int target = step(source, direction[0], direction[1]);
+            while (target >= 0) {
+                BETWEEN[source][target] = path;
+                path |= 1L << target;
+                target = step(target, direction[0], direction[1]);
+            }
+            rays |= path;
+        }
+        return rays;
+    }
+
+    private static long initializeSteps(final int source, final int[][] steps) {
+        long attacks = 0L;
+        for (final int[] step : steps) {
+            final int target = step(source, step[0], step[1]);
+            if (target >= 0) {
+                attacks |= 1L << target;
+            }
+        }
+        return attacks;
+    }
+
+    private static void initializePawn(final int source, final Team team) {
+        final int dy = pawnDirection(team);
+        final int forward = step(source, 0, dy);
+        if (forward < 0) {
+            return;
+        }
+        PAWN_PUSHES[team.ordinal()][source] = 1L << forward;
+        if (source / BOARD_SIZE == pawnInitialY(team)) {
+            PAWN_PUSHES[team.ordinal()][source] |= 1L << step(forward, 0, dy);
+        }
+        for (final int dx : PAWN_CAPTURE_DX) {
+            final int target = step(source, dx, dy);
+            if (target >= 0) {
+                PAWN_CAPTURES[team.ordinal()][source] |= 1L << target;
+            }
+        }
+    }
+
+    private static int pawnDirection(final Team team) {
+        if (team.isWhite()) {
+            return 1;
+        }
+        return -1;
+    }
+
+    private static int pawnInitialY(final Team team) {
+        if (team.isWhite()) {
+            return WHITE_PAWN_INITIAL_Y;
+        }
+        return BLACK_PAWN_INITIAL_Y;
+    }
+
+    private static int step(final int square, final int dx, final int dy) {
+        final int x = square % BOARD_SIZE + dx;
+        final int y = square / BOARD_SIZE + dy;
+        if (x < 0 || BOARD_SIZE <= x || y < 0 || BOARD_SIZE <= y) {
+            return -1;
+        }
+        return y * BOARD_SIZE + x;
+    }
+
+    public static long of(final Location location) {
+        return 1L << location.toIndex();
+    }
+
+    public static boolean contains(final long bitboard, final Location location) {
+        return (bitboard & of(location)) != 0L;
+    }
+
+    public static long between(final Location source, final Location target) {
+        return BETWEEN[source.toIndex()][target.toIndex()];
+    }
+
+    public static long between(final int source, final int target) {
+        return BETWEEN[source][target];
+    }
+
+    public static long rookRays(final int square) {
+        return ROOK_RAYS[square];
+    }
+
+    public static long bishopRays(final int square) {
+        return BISHOP_RAYS[square];
+    }
+
+    public static long knightAttacks(final int square) {
+        return KNIGHT_ATTACKS[square];
+    }
+
+    public static long kingAttacks(final int square) {
+        return KING_ATTACKS[square];
+    }
+
+    public static long pawnPushes(final Team team, final int square) {
+        return PAWN_PUSHES[team.ordinal()][square];
+    }
+
+    public static long pawnCaptures(final Team team, final int square) {
+        return PAWN_CAPTURES[team.ordinal()][square];
+    }
+
+}
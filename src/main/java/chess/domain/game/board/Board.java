@@ -5,19 +5,31 @@ import chess.domain.game.board.piece.King;
 import chess.domain.game.board.piece.Knight;
 import chess.domain.game.board.piece.Pawn;
 import chess.domain.game.board.piece.Piece;
+import chess.domain.game.board.piece.PieceType;
 import chess.domain.game.board.piece.Queen;
 import chess.domain.game.board.piece.Rook;
 import chess.domain.game.board.piece.location.Location;
 import chess.domain.game.team.Team;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 public class Board {
 
+    private static final int TEAM_COUNT = Team.values().length;
+    private static final int PIECE_TYPE_COUNT = PieceType.values().length;
+
     private final List<Piece> pieces;
+    private final Piece[] squares = new Piece[Bitboard.SQUARE_COUNT];
+    private final long[] teamOccupancies = new long[TEAM_COUNT];
+    private final long[] pieceTypeOccupancies = new long[PIECE_TYPE_COUNT];
+    private final int[] materialScores = new int[TEAM_COUNT];
+    private final int[] positionalScores = new int[TEAM_COUNT];
+    private long placementKey;
 
     private Board(final List<Piece> pieces) {
         this.pieces = pieces;
+        pieces.forEach(this::place);
     }
 
     public static Board of(final List<Piece> pieces) {
@@ -35,113 +47,193 @@ public class Board {
         return new Board(pieces);
     }
 
+    public Board copy() {
+        final List<Piece> copiedPieces = new ArrayList<>(pieces.size());
+        for (final Piece piece : pieces) {
+            copiedPieces.add(piece.copy());
+        }
+        return new Board(copiedPieces);
+    }
+
     public void move(final Location source, final Location target, final Team team) {
         validateMove(source, target, team);
         final Piece sourcePiece = find(source);
         removeIfExistent(target);
+        lift(sourcePiece);
         sourcePiece.move(target);
+        place(sourcePiece);
     }
 
-    public boolean isMovable(final Location source, final Location target, final Team team) {
-        try {
-            validateMove(source, target, team);
-            return true;
-        } catch (RuntimeException e) {
-            return false;
+    Piece makeMove(final int move) {
+        final Piece sourcePiece = squares[MoveBuffer.sourceIndex(move)];
+        final Piece capturedPiece = squares[MoveBuffer.targetIndex(move)];
+        if (capturedPiece != null) {
+            lift(capturedPiece);
+            removePiece(capturedPiece);
         }
-    }
-
-    public void validateMove(final Location source, final Location target, final Team team) {
-        validateSameLocation(source, target);
-        final Piece sourcePiece = find(source);
-        validateTeam(sourcePiece, team);
-
-        validateMoveCapable(target, sourcePiece);
-        validateIsNotSameTeam(target, sourcePiece);
-        validateNotExistentInPath(sourcePiece.findPath(target));
-        validatePawnMovable(sourcePiece, source, target);
-    }
-
-    private void validateTeam(final Piece piece, final Team team) {
-        if (!piece.isSameTeam(team)) {
-            throw new MoveFailureException("상대의 말은 움직일 수 없습니다.");
+        lift(sourcePiece);
+        sourcePiece.relocate(Location.from(MoveBuffer.targetIndex(move)));
+        place(sourcePiece);
+        return capturedPiece;
+    }
+
+    void unmakeMove(final int move, final Piece capturedPiece) {
+        final Piece movedPiece = squares[MoveBuffer.targetIndex(move)];
+        lift(movedPiece);
+        movedPiece.relocate(Location.from(MoveBuffer.sourceIndex(move)));
+        place(movedPiece);
+        if (capturedPiece != null) {
+            place(capturedPiece);
+            pieces.add(capturedPiece);
         }
     }
 
-    private void validateIsNotSameTeam(final Location target, final Piece piece) {
-        if (isExistent(target) && piece.isSameTeam(find(target))) {
-            throw new MoveFailureException("목표 위치에 같은 팀의 말이 있습니다.");
+    private void removePiece(final Piece piece) {
+        for (int i = pieces.size() - 1; i >= 0; i--) {
+            if (pieces.get(i) == piece) {
+                pieces.remove(i);
+                return;
+            }
         }
     }
 
-    private void validateMoveCapable(final Location target, final Piece piece) {
-        if (!piece.isMovable(target)) {
-            throw new MoveFailureException("해당 체스 말은 해당 위치로 이동할 능력이 없습니다.");
-        }
+    public boolean isMovable(final Location source, final Location target, final Team team) {
+        return checkMove(source, target, team).isSuccess();
     }
 
-    private void validateNotExistentInPath(final List<Location> pathToTarget) {
-        boolean isExistent = pathToTarget.stream()
-            .anyMatch(this::isExistent);
-
-        if (isExistent) {
-            throw new MoveFailureException("이동 경로에 말이 있습니다.");
+    public void validateMove(final Location source, final Location target, final Team team) {
+        final MoveResult moveResult = checkMove(source, target, team);
+        if (!moveResult.isSuccess()) {
+            throw new MoveFailureException(moveResult.getMessage());
         }
     }
 
-    private void validateSameLocation(final Location source, final Location target) {
+    public MoveResult checkMove(final Location source, final Location target, final Team team) {
         if (source.equals(target)) {
-            throw new MoveFailureException("현재 말의 위치와 목표 위치는 같을 수 없습니다.");
+            return MoveResult.SAME_LOCATION;
+        }
+        final Piece sourcePiece = squares[source.toIndex()];
+        if (sourcePiece == null) {
+            return MoveResult.EMPTY_SOURCE;
+        }
+        if (!sourcePiece.isSameTeam(team)) {
+            return MoveResult.OTHER_TEAM_PIECE;
+        }
+        if (!sourcePiece.isMovable(target)) {
+            return MoveResult.INCAPABLE_MOVE;
+        }
+        final Piece targetPiece = squares[target.toIndex()];
+        if (targetPiece != null && sourcePiece.isSameTeam(targetPiece)) {
+            return MoveResult.SAME_TEAM_AT_TARGET;
+        }
+        if ((Bitboard.between(source, target) & occupancy()) != 0L) {
+            return MoveResult.BLOCKED_PATH;
         }
+        return checkPawnMove(sourcePiece, source, target, targetPiece != null);
     }
 
-    private void validatePawnMovable(final Piece sourcePiece, final Location source,
-        final Location target) {
-        if (sourcePiece.isPawn()) {
-            int subX = source.subtractX(target);
-            if (subX == 0 && isExistent(target)) {
-                throw new MoveFailureException("폰이 이동할 수 없는 상황 입니다.");
-            }
-            if (subX != 0 && !isExistent(target)) {
-                throw new MoveFailureException("폰이 이동할 수 없는 상황 입니다.");
-            }
+    private MoveResult checkPawnMove(final Piece sourcePiece, final Location source,
+        final Location target, final boolean isTargetExistent) {
+
+        if (!sourcePiece.isPawn()) {
+            return MoveResult.SUCCESS;
         }
+        final boolean isStraight = source.subtractX(target) == 0;
+        if (isStraight == isTargetExistent) {
+            return MoveResult.PAWN_IMMOVABLE;
+        }
+        return MoveResult.SUCCESS;
     }
 
     public Piece find(final Location location) {
-        return pieces
-            .stream()
-            .filter(piece -> piece.isHere(location))
-            .findFirst()
-            .orElseThrow(() -> new MoveFailureException("해당 위치에 체스 말이 존재하지 않습니다."));
+        final Piece piece = squares[location.toIndex()];
+        if (piece == null) {
+            throw new MoveFailureException("해당 위치에 체스 말이 존재하지 않습니다.");
+        }
+        return piece;
     }
 
     public boolean isExistent(final Location location) {
-        return pieces
-            .stream()
-            .anyMatch(piece -> piece.isHere(location));
+        return (occupancy() & Bitboard.of(location)) != 0L;
     }
 
     private void removeIfExistent(final Location target) {
         if (isExistent(target)) {
             Piece targetPiece = find(target);
+            lift(targetPiece);
             pieces.remove(targetPiece);
         }
     }
 
+    private void place(final Piece piece) {
+        final int square = piece.getLocation().toIndex();
+        final long bit = 1L << square;
+        squares[square] = piece;
+        teamOccupancies[piece.getTeam().ordinal()] |= bit;
+        pieceTypeOccupancies[piece.getPieceType().ordinal()] |= bit;
+        placementKey ^= Zobrist.piece(piece.getTeam(), piece.getPieceType(), square);
+        materialScores[piece.getTeam().ordinal()] +=
+            Evaluation.materialValue(piece.getPieceType());
+        positionalScores[piece.getTeam().ordinal()] +=
+            Evaluation.pieceSquareValue(piece.getTeam(), piece.getPieceType(), square);
+    }
+
+    private void lift(final Piece piece) {
+        final int square = piece.getLocation().toIndex();
+        final long bit = 1L << square;
+        squares[square] = null;
+        teamOccupancies[piece.getTeam().ordinal()] &= ~bit;
+        pieceTypeOccupancies[piece.getPieceType().ordinal()] &= ~bit;
+        placementKey ^= Zobrist.piece(piece.getTeam(), piece.getPieceType(), square);
+        materialScores[piece.getTeam().ordinal()] -=
+            Evaluation.materialValue(piece.getPieceType());
+        positionalScores[piece.getTeam().ordinal()] -=
+            Evaluation.pieceSquareValue(piece.getTeam(), piece.getPieceType(), square);
+    }
+
+    long occupancy() {
+        return teamOccupancies[Team.WHITE.ordinal()] | teamOccupancies[Team.BLACK.ordinal()];
+    }
+
+    long occupancy(final Team team) {
+        return teamOccupancies[team.ordinal()];
+    }
+
+    long occupancy(final Team team, final PieceType pieceType) {
+        return teamOccupancies[team.ordinal()] & pieceTypeOccupancies[pieceType.ordinal()];
+    }
+
     public boolean isKingCatch() {
         return isKingDead(Team.WHITE) || isKingDead(Team.BLACK);
     }
 
     private boolean isKingDead(final Team team) {
-        return pieces
-            .stream()
-            .filter(piece -> piece.isSameTeam(team))
-            .noneMatch(Piece::isKing);
+        return (teamOccupancies[team.ordinal()]
+            & pieceTypeOccupancies[PieceType.KING.ordinal()]) == 0L;
     }
 
     public void clearPieces() {
         pieces.clear();
+        Arrays.fill(squares, null);
+        Arrays.fill(teamOccupancies, 0L);
+        Arrays.fill(pieceTypeOccupancies, 0L);
+        Arrays.fill(materialScores, 0);
+        Arrays.fill(positionalScores, 0);
+        placementKey = 0L;
+    }
+
+    public double score(final Team team) {
+        return (double) materialScores[team.ordinal()] / Evaluation.CENTIPAWNS_PER_POINT;
+    }
+
+    public int evaluate(final Team team) {
+        final int enemy = team.reverse().ordinal();
+        return materialScores[team.ordinal()] + positionalScores[team.ordinal()]
+            - materialScores[enemy] - positionalScores[enemy];
+    }
+
+    public long zobristKey(final Team sideToMove) {
+        return placementKey ^ Zobrist.sideToMove(sideToMove);
     }
 
     public List<Piece> toList() {
@@ -0,0 +1,102 @@
+package chess.domain.game.board;
+
+import chess.domain.game.board.piece.Bishop;
+import chess.domain.game.board.piece.King;
+import chess.domain.game.board.piece.Knight;
+import chess.domain.game.board.piece.Pawn;
+import chess.domain.game.board.piece.Piece;
+import chess.domain.game.board.piece.PieceType;
+import chess.domain.game.board.piece.Queen;
+import chess.domain.game.board.piece.Rook;
+import chess.domain.game.board.piece.location.Location;
+import chess.domain.game.team.Team;
+import java.util.ArrayList;
+import java.util.List;
+
+public class BoardCodec {
+
+    public static final int ENCODED_SIZE = Bitboard.SQUARE_COUNT / 2 + 1;
+
+    private static final int TURN_INDEX = ENCODED_SIZE - 1;
+    private static final int NIBBLE_BITS = 4;
+    private static final int NIBBLE_MASK = 0x0F;
+    private static final int BLACK_FLAG = 0x08;
+    private static final int PIECE_TYPE_MASK = 0x07;
+    private static final int EMPTY = 0;
+    private static final PieceType[] PIECE_TYPES = PieceType.values();
+    private static final Team[] TEAMS = Team.values();
+
+    private BoardCodec() {
+    }
+
+    public static byte[] encode(final Board board, final Team turn) {
+        final byte[] encoded = new byte[ENCODED_SIZE];
+        for (final Piece piece : board.toList()) {
+            final int square = piece.getLocation().toIndex();
+            final int shift = (square & 1) * NIBBLE_BITS;
+            encoded[square >>> 1] |= (byte) (toNibble(piece) << shift);
+        }
+        encoded[TURN_INDEX] = (byte) turn.ordinal();
+        return encoded;
+    }
+
+    private static int toNibble(final Piece piece) {
+        final int nibble = piece.getPieceType().ordinal() + 1;
+        if (piece.getTeam().isBlack()) {
+            return nibble | BLACK_FLAG;
+        }
+        return nibble;
+    }
+
+    public static Board decodeBoard(final byte[] encoded) {
+        validateSize(encoded);
+        final List<Piece> pieces = new ArrayList<>();
+        for (int square = 0; square < Bitboard.SQUARE_COUNT; square++) {
+            final int shift = (square & 1) * NIBBLE_BITS;
+            final int nibble = (encoded[square >>> 1] >>> shift) & NIBBLE_MASK;
+            if (nibble != EMPTY) {
+                pieces.add(toPiece(nibble, Location.from(square)));
+            }
+        }
+        return Board.of(pieces);
+    }
+
+    public static Team decodeTurn(final byte[] encoded) {
+        validateSize(encoded);
+        final int turn = encoded[TURN_INDEX];
+        if (turn < 0 || turn >= TEAMS.length) {
+            throw new IllegalArgumentException("보드 인코딩의 차례가 잘못되었습니다.");
+        }
+        return TEAMS[turn];
+    }
+
+    private static void validateSize(final byte[] encoded) {
+        if (encoded.length != ENCODED_SIZE) {
+            throw new IllegalArgumentException("보드 인코딩의 크기가 잘못되었습니다.");
+        }
+    }
+
+    private static Piece toPiece(final int nibble, final Location location) {
+        final Team team = (nibble & BLACK_FLAG) == 0 ? Team.WHITE : Team.BLACK;
+        final int pieceTypeCode = nibble & PIECE_TYPE_MASK;
+        if (pieceTypeCode == EMPTY || pieceTypeCode > PIECE_TYPES.length) {
+            throw new IllegalArgumentException("보드 인코딩에 알 수 없는 기물이 있습니다.");
+        }
+        final PieceType pieceType = PIECE_TYPES[pieceTypeCode - 1];
+        switch (pieceType) {
+            case KING:
+                return King.of(0L, location, team);
+            case QUEEN:
+                return Queen.of(0L, location, team);
+            case BISHOP:
+                return Bishop.of(0L, location, team);
+            case KNIGHT:
+                return Knight.of(0L, location, team);
+            case ROOK:
+                return Rook.of(0L, location, team);
+            default:
+                return Pawn.of(0L, location, team);
+        }
+    }
+
+}
@@ -0,0 +1,126 @@
+package chess.domain.game.board;
+
+import chess.domain.game.board.piece.PieceType;
+import chess.domain.game.team.Team;
+
+public class Evaluation {
+
+    public static final int CENTIPAWNS_PER_POINT = 100;
+
+    private static final int BOARD_SIZE = 8;
+    private static final PieceType[] PIECE_TYPES = PieceType.values();
+    private static final int[] MATERIAL_VALUES = new int[PIECE_TYPES.length];
+    private static final int[][][] PIECE_SQUARE_VALUES =
+        new int[Team.values().length][PIECE_TYPES.length][Bitboard.SQUARE_COUNT];
+
+    // 표는 백팀 기준이고 첫 줄이 8랭크다.
+    private static final int[] KING_TABLE = {
+        -30, -40, -40, -50, -50, -40, -40, -30,
+        -30, -40, -40, -50, -50, -40, -40, -30,
+        -30, -40, -40, -50, -50, -40, -40, -30,
+        -30, -40, -40, -50, -50, -40, -40, -30,
+        -20, -30, -30, -40, -40, -30, -30, -20,
+        -10, -20, -20, -20, -20, -20, -20, -10,
+        20, 20, 0, 0, 0, 0, 20, 20,
+        20, 30, 10, 0, 0, 10, 30, 20
+    };
+    private static final int[] QUEEN_TABLE = {
+        -20, -10, -10, -5, -5, -10, -10, -20,
+        -10, 0, 0, 0, 0, 0, 0, -10,
+        -10, 0, 5, 5, 5, 5, 0, -10,
+        -5, 0, 5, 5, 5, 5, 0, -5,
+        0, 0, 5, 5, 5, 5, 0, -5,
+        -10, 5, 5, 5, 5, 5, 0, -10,
+        -10, 0, 5, 0, 0, 0, 0, -10,
+        -20, -10, -10, -5, -5, -10, -10, -20
+    };
+    private static final int[] BISHOP_TABLE = {
+        -20, -10, -10, -10, -10, -10, -10, -20,
+        -10, 0, 0, 0, 0, 0, 0, -10,
+        -10, 0, 5, 10, 10, 5, 0, -10,
+        -10, 5, 5, 10, 10, 5, 5, -10,
+        -10, 0, 10, 10, 10, 10, 0, -10,
+        -10, 10, 10, 10, 10, 10, 10, -10,
+        -10, 5, 0, 0, 0, 0, 5, -10,
+        -20, -10, -10, -10, -10, -10, -10, -20
+    };
+    private static final int[] KNIGHT_TABLE = {
+        -50, -40, -30, -30, -30, -30, -40, -50,
+        -40, -20, 0, 0, 0, 0, -20, -40,
+        -30, 0, 10, 15, 15, 10, 0, -30,
+        -30, 5, 15, 20, 20, 15, 5, -30,
+        -30, 0, 15, 20, 20, 15, 0, -30,
+        -30, 5, 10, 15, 15, 10, 5, -30,
+        -40, -20, 0, 5, 5, 0, -20, -40,
+        -50, -40, -30, -30, -30, -30, -40, -50
+    };
+    private static final int[] PAWN_TABLE = {
+        0, 0, 0, 0, 0, 0, 0, 0,
+        20, 20, 20, 20, 20, 20, 20, 20,
+        10, 10, 20, 30, 30, 20, 10, 10,
+        5, 5, 10, 25, 25, 10, 5, 5,
+        0, 0, 0, 20, 20, 0, 0, 0,
+        5, -5, -10, 0, 0, -10, -5, 5,
+        5, 10, 10, -20, -20, 10, 10, 5,
+        0, 0, 0, 0, 0, 0, 0, 0
+    };
+    private static final int[] ROOK_TABLE = {
+        0, 0, 0, 0, 0, 0, 0, 0,
+        5, 10, 10, 10, 10, 10, 10, 5,
+        -5, 0, 0, 0, 0, 0, 0, -5,
+        -5, 0, 0, 0, 0, 0, 0, -5,
+        -5, 0, 0, 0, 0, 0, 0, -5,
+        -5, 0, 0, 0, 0, 0, 0, -5,
+        -5, 0, 0, 0, 0, 0, 0, -5,
+        0, 0, 0, 5, 5, 0, 0, 0
+    };
+
+    static {
+        for (final PieceType pieceType : PIECE_TYPES) {
+            MATERIAL_VALUES[pieceType.ordinal()] =
+                (int) Math.round(pieceType.getScore() * CENTIPAWNS_PER_POINT);
+            final int[] table = pieceSquareTable(pieceType);
+            for (int square = 0; square < Bitboard.SQUARE_COUNT; square++) {
+                PIECE_SQUARE_VALUES[Team.WHITE.ordinal()][pieceType.ordinal()][square] =
+                    table[whiteTableIndex(square)];
+                PIECE_SQUARE_VALUES[Team.BLACK.ordinal()][pieceType.ordinal()][square] =
+                    table[square];
+            }
+        }
+    }
+
+    private Evaluation() {
+    }
+
+    private static int[] pieceSquareTable(final PieceType pieceType) {
+        switch (pieceType) {
+            case KING:
+                return KING_TABLE;
+            case QUEEN:
+                return QUEEN_TABLE;
+            case BISHOP:
+                return BISHOP_TABLE;
+            case KNIGHT:
+                return KNIGHT_TABLE;
+            case ROOK:
+                return ROOK_TABLE;
+            default:
+                return PAWN_TABLE;
+        }
+    }
+
+    private static int whiteTableIndex(final int square) {
+        return (BOARD_SIZE - 1 - square / BOARD_SIZE) * BOARD_SIZE + square % BOARD_SIZE;
+    }
+
+    public static int materialValue(final PieceType pieceType) {
+        return MATERIAL_VALUES[pieceType.ordinal()];
+    }
+
+    public static int pieceSquareValue(final Team team, final PieceType pieceType,
+        final int square) {
+
+        return PIECE_SQUARE_VALUES[team.ordinal()][pieceType.ordinal()][square];
+    }
+
+}
@@ -0,0 +1,72 @@
+package chess.domain.game.board;
+
+import chess.domain.game.team.Team;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class LazySmpSearch {
+
+    private LazySmpSearch() {
+    }
+
+    // 보조 스레드는 시작 깊이를 엇갈려 테이블만 채운다.
+    public static SearchResult search(final Board board, final Team team, final int maxDepth,
+        final long deadlineNanos, final TranspositionTable transpositionTable,
+        final int helperCount, final Executor helperExecutor) {
+
+        final AtomicBoolean stopped = new AtomicBoolean();
+        final List<CompletableFuture<SearchResult>> helpers = new ArrayList<>(helperCount);
+        final SearchResult mainResult;
+        final long helperNodes;
+        try {
+            for (int i = 1; i <= helperCount; i++) {
+                helpers.add(startHelper(board.copy(), team, maxDepth, deadlineNanos,
+                    transpositionTable, stopped, 1 + i % 2, helperExecutor));
+            }
+            mainResult = AlphaBetaSearch.search(board, team, maxDepth, deadlineNanos,
+                transpositionTable, stopped, 1);
+        } finally {
+            stopped.set(true);
+            helperNodes = awaitHelpers(helpers);
+        }
+
+        final long nodes = mainResult.getNodes() + helperNodes;
+        if (!mainResult.hasMove()) {
+            return SearchResult.empty(nodes);
+        }
+        return SearchResult.of(mainResult.getMove(), mainResult.getScore(),
+            mainResult.getDepth(), nodes);
+    }
+
+    private static long awaitHelpers(final List<CompletableFuture<SearchResult>> helpers) {
+        long nodes = 0L;
+        for (final CompletableFuture<SearchResult> helper : helpers) {
+            nodes += helper.handle(
+                (searchResult, e) -> Objects.isNull(e) ? searchResult.getNodes() : 0L
+            ).join();
+        }
+        return nodes;
+    }
+
+    private static CompletableFuture<SearchResult> startHelper(final Board board,
+        final Team team, final int maxDepth, final long deadlineNanos,
+        final TranspositionTable transpositionTable, final AtomicBoolean stopped,
+        final int firstDepth, final Executor helperExecutor) {
+
+        try {
+            return CompletableFuture.supplyAsync(
+                () -> AlphaBetaSearch.search(board, team, maxDepth, deadlineNanos,
+                    transpositionTable, stopped, firstDepth),
+                helperExecutor
+            );
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.completedFuture(SearchResult.empty(0L));
+        }
+    }
+
+}
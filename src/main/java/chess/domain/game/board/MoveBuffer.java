@@ -0,0 +1,84 @@
+package chess.domain.game.board;
+
+import chess.domain.game.board.piece.location.Location;
+import java.util.Arrays;
+
+public class MoveBuffer {
+
+    private static final int DEFAULT_CAPACITY = 256;
+    private static final int SQUARE_BITS = 6;
+    private static final int SQUARE_MASK = (1 << SQUARE_BITS) - 1;
+
+    private int[] moves;
+    private int size;
+
+    public MoveBuffer() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public MoveBuffer(final int capacity) {
+        this.moves = new int[capacity];
+    }
+
+    public static int pack(final int sourceIndex, final int targetIndex) {
+        return (sourceIndex << SQUARE_BITS) | targetIndex;
+    }
+
+    public static int sourceIndex(final int move) {
+        return (move >>> SQUARE_BITS) & SQUARE_MASK;
+    }
+
+    public static int targetIndex(final int move) {
+        return move & SQUARE_MASK;
+    }
+
+    public void add(final int sourceIndex, final int targetIndex) {
+        if (size == moves.length) {
+            moves = Arrays.copyOf(moves, size * 2);
+        }
+        moves[size++] = pack(sourceIndex, targetIndex);
+    }
+
+    void set(final int index, final int move) {
+        moves[index] = move;
+    }
+
+    void truncate(final int size) {
+        this.size = size;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int get(final int index) {
+        return moves[index];
+    }
+
+    public Location source(final int index) {
+        return Location.from(sourceIndex(moves[index]));
+    }
+
+    public Location target(final int index) {
+        return Location.from(targetIndex(moves[index]));
+    }
+
+    public boolean contains(final Location source, final Location target) {
+        final int move = pack(source.toIndex(), target.toIndex());
+        for (int i = 0; i < size; i++) {
+            if (moves[i] == move) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+}
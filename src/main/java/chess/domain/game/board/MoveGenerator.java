@@ -0,0 +1,152 @@
+package chess.domain.game.board;
+
+import chess.domain.game.board.piece.PieceType;
+import chess.domain.game.team.Team;
+
+public class MoveGenerator {
+
+    private MoveGenerator() {
+    }
+
+    public static void generatePseudoLegalMoves(final Board board, final Team team,
+        final MoveBuffer moveBuffer) {
+
+        moveBuffer.clear();
+        final long own = board.occupancy(team);
+        final long occupancy = board.occupancy();
+        final long enemy = board.occupancy(team.reverse());
+        final long queens = board.occupancy(team, PieceType.QUEEN);
+
+        long kings = board.occupancy(team, PieceType.KING);
+        while (kings != 0L) {
+            final int source = Long.numberOfTrailingZeros(kings);
+            kings &= kings - 1;
+            addTargets(source, Bitboard.kingAttacks(source) & ~own, moveBuffer);
+        }
+        long knights = board.occupancy(team, PieceType.KNIGHT);
+        while (knights != 0L) {
+            final int source = Long.numberOfTrailingZeros(knights);
+            knights &= knights - 1;
+            addTargets(source, Bitboard.knightAttacks(source) & ~own, moveBuffer);
+        }
+        long rooks = board.occupancy(team, PieceType.ROOK) | queens;
+        while (rooks != 0L) {
+            final int source = Long.numberOfTrailingZeros(rooks);
+            rooks &= rooks - 1;
+            addTargets(source, slidingTargets(source, Bitboard.rookRays(source), occupancy) & ~own,
+                moveBuffer);
+        }
+        long bishops = board.occupancy(team, PieceType.BISHOP) | queens;
+        while (bishops != 0L) {
+            final int source = Long.numberOfTrailingZeros(bishops);
+            bishops &= bishops - 1;
+            addTargets(source,
+                slidingTargets(source, Bitboard.bishopRays(source), occupancy) & ~own,
+                moveBuffer);
+        }
+        long pawns = board.occupancy(team, PieceType.PAWN);
+        while (pawns != 0L) {
+            final int source = Long.numberOfTrailingZeros(pawns);
+            pawns &= pawns - 1;
+            addTargets(source, pawnTargets(team, source, occupancy, enemy), moveBuffer);
+        }
+    }
+
+    public static void generateLegalMoves(final Board board, final Team team,
+        final MoveBuffer moveBuffer) {
+
+        generatePseudoLegalMoves(board, team, moveBuffer);
+        int legalSize = 0;
+        for (int i = 0; i < moveBuffer.size(); i++) {
+            final int move = moveBuffer.get(i);
+            if (isKingSafeAfter(board, team, move)) {
+                moveBuffer.set(legalSize++, move);
+            }
+        }
+        moveBuffer.truncate(legalSize);
+    }
+
+    private static void addTargets(final int source, long targets, final MoveBuffer moveBuffer) {
+        while (targets != 0L) {
+            moveBuffer.add(source, Long.numberOfTrailingZeros(targets));
+            targets &= targets - 1;
+        }
+    }
+
+    private static long slidingTargets(final int source, final long rays, final long occupancy) {
+        long targets = 0L;
+        long candidates = rays;
+        while (candidates != 0L) {
+            final int target = Long.numberOfTrailingZeros(candidates);
+            candidates &= candidates - 1;
+            if ((Bitboard.between(source, target) & occupancy) == 0L) {
+                targets |= 1L << target;
+            }
+        }
+        return targets;
+    }
+
+    private static long pawnTargets(final Team team, final int source, final long occupancy,
+        final long enemy) {
+
+        long pushes = 0L;
+        long candidates = Bitboard.pawnPushes(team, source);
+        while (candidates != 0L) {
+            final int target = Long.numberOfTrailingZeros(candidates);
+            candidates &= candidates - 1;
+            if (((Bitboard.between(source, target) | 1L << target) & occupancy) == 0L) {
+                pushes |= 1L << target;
+            }
+        }
+        return pushes | (Bitboard.pawnCaptures(team, source) & enemy);
+    }
+
+    private static boolean isKingSafeAfter(final Board board, final Team team, final int move) {
+        final long kings = board.occupancy(team, PieceType.KING);
+        final long sourceBit = 1L << MoveBuffer.sourceIndex(move);
+        final long targetBit = 1L << MoveBuffer.targetIndex(move);
+        if (kings == 0L || (board.occupancy(team.reverse(), PieceType.KING) & targetBit) != 0L) {
+            return true;
+        }
+        final long movedKings = (kings & sourceBit) == 0L ? kings : targetBit;
+        final long occupancy = (board.occupancy() & ~sourceBit) | targetBit;
+        final long attackers = board.occupancy(team.reverse()) & ~targetBit;
+        return !isAttacked(board, Long.numberOfTrailingZeros(movedKings), team.reverse(),
+            occupancy, attackers);
+    }
+
+    public static boolean isAttacked(final Board board, final int square, final Team attacker) {
+        return isAttacked(board, square, attacker, board.occupancy(), board.occupancy(attacker));
+    }
+
+    private static boolean isAttacked(final Board board, final int square, final Team attacker,
+        final long occupancy, final long attackers) {
+
+        final long queens = board.occupancy(attacker, PieceType.QUEEN);
+        return (Bitboard.knightAttacks(square)
+            & attackers & board.occupancy(attacker, PieceType.KNIGHT)) != 0L
+            || (Bitboard.kingAttacks(square)
+            & attackers & board.occupancy(attacker, PieceType.KING)) != 0L
+            || (Bitboard.pawnCaptures(attacker.reverse(), square)
+            & attackers & board.occupancy(attacker, PieceType.PAWN)) != 0L
+            || isSlidingAttacked(square, Bitboard.rookRays(square), occupancy,
+            attackers & (board.occupancy(attacker, PieceType.ROOK) | queens))
+            || isSlidingAttacked(square, Bitboard.bishopRays(square), occupancy,
+            attackers & (board.occupancy(attacker, PieceType.BISHOP) | queens));
+    }
+
+    private static boolean isSlidingAttacked(final int square, final long rays,
+        final long occupancy, final long attackers) {
+
+        long candidates = rays & attackers;
+        while (candidates != 0L) {
+            final int from = Long.numberOfTrailingZeros(candidates);
+            candidates &= candidates - 1;
+            if ((Bitboard.between(square, from) & occupancy) == 0L) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+}
@@ -0,0 +1,27 @@
+package chess.domain.game.board;
+
+public enum MoveResult {
+    SUCCESS(""),
+    SAME_LOCATION("현재 말의 위치와 목표 위치는 같을 수 없습니다."),
+    EMPTY_SOURCE("해당 위치에 체스 말이 존재하지 않습니다."),
+    OTHER_TEAM_PIECE("상대의 말은 움직일 수 없습니다."),
+    INCAPABLE_MOVE("해당 체스 말은 해당 위치로 이동할 능력이 없습니다."),
+    SAME_TEAM_AT_TARGET("목표 위치에 같은 팀의 말이 있습니다."),
+    BLOCKED_PATH("이동 경로에 말이 있습니다."),
+    PAWN_IMMOVABLE("폰이 이동할 수 없는 상황 입니다.");
+
+    private final String message;
+
+    MoveResult(final String message) {
+        this.message = message;
+    }
+
+    public boolean isSuccess() {
+        return this == SUCCESS;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+}
@@ -0,0 +1,99 @@
+package chess.domain.game.board;
+
+import chess.domain.game.board.piece.Piece;
+import chess.domain.game.team.Team;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+
+public class Perft {
+
+    private Perft() {
+    }
+
+    public static long count(final Board board, final Team team, final int depth) {
+        validateDepth(depth);
+        return count(board.copy(), team, depth, createBuffers(depth));
+    }
+
+    public static long countParallel(final Board board, final Team team, final int depth,
+        final ForkJoinPool forkJoinPool) {
+
+        validateDepth(depth);
+        if (depth <= 1) {
+            return count(board, team, depth);
+        }
+        return forkJoinPool.invoke(new RootSplitTask(board, team, depth));
+    }
+
+    private static void validateDepth(final int depth) {
+        if (depth < 0) {
+            throw new IllegalArgumentException("깊이는 0 이상이어야 합니다.");
+        }
+    }
+
+    private static MoveBuffer[] createBuffers(final int depth) {
+        final MoveBuffer[] moveBuffers = new MoveBuffer[depth + 1];
+        for (int i = 0; i <= depth; i++) {
+            moveBuffers[i] = new MoveBuffer();
+        }
+        return moveBuffers;
+    }
+
+    private static long count(final Board board, final Team team, final int depth,
+        final MoveBuffer[] moveBuffers) {
+
+        if (depth == 0) {
+            return 1L;
+        }
+        final MoveBuffer moveBuffer = moveBuffers[depth];
+        MoveGenerator.generateLegalMoves(board, team, moveBuffer);
+        if (depth == 1) {
+            return moveBuffer.size();
+        }
+        long nodes = 0L;
+        for (int i = 0; i < moveBuffer.size(); i++) {
+            final int move = moveBuffer.get(i);
+            final Piece capturedPiece = board.makeMove(move);
+            nodes += count(board, team.reverse(), depth - 1, moveBuffers);
+            board.unmakeMove(move, capturedPiece);
+        }
+        return nodes;
+    }
+
+    @SuppressWarnings("serial")
+    private static class RootSplitTask extends RecursiveTask<Long> {
+
+        private final Board board;
+        private final Team team;
+        private final int depth;
+
+        private RootSplitTask(final Board board, final Team team, final int depth) {
+            this.board = board;
+            this.team = team;
+            this.depth = depth;
+        }
+
+        @Override
+        protected Long compute() {
+            final MoveBuffer rootMoves = new MoveBuffer();
+            MoveGenerator.generateLegalMoves(board, team, rootMoves);
+
+            final List<ForkJoinTask<Long>> tasks = new ArrayList<>(rootMoves.size());
+            for (int i = 0; i < rootMoves.size(); i++) {
+                final Board child = board.copy();
+                child.makeMove(rootMoves.get(i));
+                tasks.add(ForkJoinTask.adapt(() -> count(child, team.reverse(), depth - 1)));
+            }
+            long nodes = 0L;
+            for (final ForkJoinTask<Long> task : invokeAll(tasks)) {
+                nodes += task.join();
+            }
+            return nodes;
+        }
+
+    }
+
+}
@@ -0,0 +1,59 @@
+package chess.domain.game.board;
+
+import chess.domain.game.board.piece.location.Location;
+
+public class SearchResult {
+
+    private static final int NO_MOVE = -1;
+
+    private final int move;
+    private final int score;
+    private final int depth;
+    private final long nodes;
+
+    private SearchResult(final int move, final int score, final int depth, final long nodes) {
+        this.move = move;
+        this.score = score;
+        this.depth = depth;
+        this.nodes = nodes;
+    }
+
+    public static SearchResult of(final int move, final int score, final int depth,
+        final long nodes) {
+
+        return new SearchResult(move, score, depth, nodes);
+    }
+
+    public static SearchResult empty(final long nodes) {
+        return new SearchResult(NO_MOVE, 0, 0, nodes);
+    }
+
+    public boolean hasMove() {
+        return move != NO_MOVE;
+    }
+
+    public Location getSource() {
+        return Location.from(MoveBuffer.sourceIndex(move));
+    }
+
+    public Location getTarget() {
+        return Location.from(MoveBuffer.targetIndex(move));
+    }
+
+    public int getMove() {
+        return move;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public int getDepth() {
+        return depth;
+    }
+
+    public long getNodes() {
+        return nodes;
+    }
+
+}
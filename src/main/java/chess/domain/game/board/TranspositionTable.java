@@ -0,0 +1,109 @@
+package chess.domain.game.board;
+
+public class TranspositionTable {
+
+    public static final long MISS = 0L;
+    public static final int EXACT = 1;
+    public static final int LOWER_BOUND = 2;
+    public static final int UPPER_BOUND = 3;
+    public static final int MAX_SIZE_MB = 4096;
+
+    private static final long BYTES_PER_MB = 1L << 20;
+    private static final int LONGS_PER_ENTRY = 2;
+    private static final int BYTES_PER_ENTRY = LONGS_PER_ENTRY * Long.BYTES;
+
+    private static final int MOVE_SHIFT = 32;
+    private static final long MOVE_MASK = (1L << 13) - 1;
+    private static final int DEPTH_SHIFT = 45;
+    private static final long DEPTH_MASK = (1L << 7) - 1;
+    private static final int BOUND_SHIFT = 52;
+    private static final long BOUND_MASK = (1L << 2) - 1;
+    private static final int GENERATION_SHIFT = 54;
+    private static final int GENERATION_MASK = (1 << 8) - 1;
+
+    // 항목은 [key ^ data, data] 두 칸이고, 찢어진 항목은 XOR 검증에서 걸러진다.
+    private final long[] entries;
+    private final long indexMask;
+    private volatile int generation;
+
+    public TranspositionTable(final int sizeMb) {
+        validateSize(sizeMb);
+        final long entryCount = Long.highestOneBit(sizeMb * BYTES_PER_MB / BYTES_PER_ENTRY);
+        this.entries = new long[(int) (entryCount * LONGS_PER_ENTRY)];
+        this.indexMask = entryCount - 1;
+    }
+
+    private static void validateSize(final int sizeMb) {
+        if (sizeMb < 1 || MAX_SIZE_MB < sizeMb) {
+            throw new IllegalArgumentException(
+                String.format("트랜스포지션 테이블 크기는 1MB 이상 %dMB 이하여야 합니다.", MAX_SIZE_MB));
+        }
+    }
+
+    public void newSearch() {
+        generation = (generation + 1) & GENERATION_MASK;
+    }
+
+    public long probe(final long key) {
+        final int index = index(key);
+        final long data = entries[index + 1];
+        if ((entries[index] ^ data) != key) {
+            return MISS;
+        }
+        return data;
+    }
+
+    public void store(final long key, final int move, final int score, final int depth,
+        final int bound) {
+
+        final int index = index(key);
+        final long storedData = entries[index + 1];
+        final boolean isSamePosition = (entries[index] ^ storedData) == key;
+        if (storedData != MISS && !isSamePosition && depth < depthOf(storedData)
+            && generationOf(storedData) == generation) {
+            return;
+        }
+        final long data = pack(move, score, depth, bound, generation);
+        entries[index + 1] = data;
+        entries[index] = key ^ data;
+    }
+
+    private int index(final long key) {
+        return (int) (key & indexMask) * LONGS_PER_ENTRY;
+    }
+
+    private static long pack(final int move, final int score, final int depth, final int bound,
+        final int generation) {
+
+        return (score & 0xFFFFFFFFL)
+            | ((move + 1L) & MOVE_MASK) << MOVE_SHIFT
+            | (depth & DEPTH_MASK) << DEPTH_SHIFT
+            | (bound & BOUND_MASK) << BOUND_SHIFT
+            | (long) generation << GENERATION_SHIFT;
+    }
+
+    public static int moveOf(final long data) {
+        return (int) ((data >>> MOVE_SHIFT) & MOVE_MASK) - 1;
+    }
+
+    public static int scoreOf(final long data) {
+        return (int) data;
+    }
+
+    public static int depthOf(final long data) {
+        return (int) ((data >>> DEPTH_SHIFT) & DEPTH_MASK);
+    }
+
+    public static int boundOf(final long data) {
+        return (int) ((data >>> BOUND_SHIFT) & BOUND_MASK);
+    }
+
+    private static int generationOf(final long data) {
+        return (int) ((data >>> GENERATION_SHIFT) & GENERATION_MASK);
+    }
+
+    public int capacity() {
+        return entries.length / LONGS_PER_ENTRY;
+    }
+
+}
@@ -0,0 +1,40 @@
+package chess.domain.game.board;
+
+import chess.domain.game.board.piece.PieceType;
+import chess.domain.game.team.Team;
+import java.util.SplittableRandom;
+
+public class Zobrist {
+
+    private static final long SEED = 0x5DEECE66DL;
+    private static final long[][][] PIECE_KEYS =
+        new long[Team.values().length][PieceType.values().length][Bitboard.SQUARE_COUNT];
+    private static final long BLACK_TO_MOVE_KEY;
+
+    static {
+        final SplittableRandom random = new SplittableRandom(SEED);
+        for (final long[][] teamKeys : PIECE_KEYS) {
+            for (final long[] pieceTypeKeys : teamKeys) {
+                for (int square = 0; square < Bitboard.SQUARE_COUNT; square++) {
+                    pieceTypeKeys[square] = random.nextLong();
+                }
+            }
+        }
+        BLACK_TO_MOVE_KEY = random.nextLong();
+    }
+
+    private Zobrist() {
+    }
+
+    public static long piece(final Team team, final PieceType pieceType, final int square) {
+        return PIECE_KEYS[team.ordinal()][pieceType.ordinal()][square];
+    }
+
+    public static long sideToMove(final Team team) {
+        if (team.isBlack()) {
+            return BLACK_TO_MOVE_KEY;
+        }
+        return 0L;
+    }
+
+}
@@ -1,5 +1,6 @@
 package chess.domain.game.board.piece;
 
+import chess.domain.game.board.Bitboard;
 import chess.domain.game.board.piece.location.Location;
 import chess.domain.game.team.Team;
 import java.util.Arrays;
@@ -31,6 +32,11 @@ public class Bishop extends Piece {
         );
     }
 
+    @Override
+    public Piece copy() {
+        return new Bishop(id, location, team);
+    }
+
     @Override
     public PieceType getPieceType() {
         return PieceType.BISHOP;
@@ -38,7 +44,7 @@ public class Bishop extends Piece {
 
     @Override
     public boolean isMovable(final Location target) {
-        return location.isDiagonal(target);
+        return Bitboard.contains(Bitboard.bishopRays(location.toIndex()), target);
     }
 
 }
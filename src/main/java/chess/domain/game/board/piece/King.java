@@ -1,5 +1,6 @@
 package chess.domain.game.board.piece;
 
+import chess.domain.game.board.Bitboard;
 import chess.domain.game.board.piece.location.Location;
 import chess.domain.game.team.Team;
 import java.util.Arrays;
@@ -33,6 +34,11 @@ public class King extends Piece {
         return true;
     }
 
+    @Override
+    public Piece copy() {
+        return new King(id, location, team);
+    }
+
     @Override
     public PieceType getPieceType() {
         return PieceType.KING;
@@ -40,7 +46,7 @@ public class King extends Piece {
 
     @Override
     public boolean isMovable(final Location target) {
-        return location.isAdjacent(target);
+        return Bitboard.contains(Bitboard.kingAttacks(location.toIndex()), target);
     }
 
 }
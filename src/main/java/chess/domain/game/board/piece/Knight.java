@@ -1,5 +1,6 @@
 package chess.domain.game.board.piece;
 
+import chess.domain.game.board.Bitboard;
 import chess.domain.game.board.piece.location.Location;
 import chess.domain.game.team.Team;
 import java.util.Arrays;
@@ -34,9 +35,7 @@ public class Knight extends Piece {
 
     @Override
     public boolean isMovable(final Location target) {
-        int subX = Math.abs(location.subtractX(target));
-        int subY = Math.abs(location.subtractY(target));
-        return ((subX == 1 && subY == 2) || (subX == 2 && subY == 1));
+        return Bitboard.contains(Bitboard.knightAttacks(location.toIndex()), target);
     }
 
     @Override
@@ -44,6 +43,11 @@ public class Knight extends Piece {
         return Collections.emptyList();
     }
 
+    @Override
+    public Piece copy() {
+        return new Knight(id, location, team);
+    }
+
     @Override
     public PieceType getPieceType() {
         return PieceType.KNIGHT;
@@ -1,5 +1,6 @@
 package chess.domain.game.board.piece;
 
+import chess.domain.game.board.Bitboard;
 import chess.domain.game.board.piece.location.Location;
 import chess.domain.game.team.Team;
 import java.util.List;
@@ -9,13 +10,8 @@ import java.util.stream.Stream;
 
 public class Pawn extends Piece {
 
-    public static final int UP_DIRECTION = 1;
-    public static final int DOWN_DIRECTION = -1;
-    public static final int LEFT_DIRECTION = -1;
-    public static final int RIGHT_DIRECTION = 1;
     private static final int BLACK_PAWN_INITIAL_Y = 7;
     private static final int WHITE_PAWN_INITIAL_Y = 2;
-    private static final int INITIAL_PAWN_MOVE_DISTANCE = 2;
     private static final int MINIMUM_X = 1;
     private static final int MAXIMUM_X = 8;
 
@@ -36,44 +32,12 @@ public class Pawn extends Piece {
         ).collect(Collectors.toList());
     }
 
-    private List<Location> makePossibleLocation(final Location target) {
-        int dy = UP_DIRECTION;
-        if (team.isBlack()) {
-            dy = DOWN_DIRECTION;
-        }
-        List<Location> locations = bringAlwaysMovableLocations(dy);
-
-        addOnlyInitialMovableLocation(dy, locations);
-        return locations;
-    }
-
-    private List<Location> bringAlwaysMovableLocations(final int dy) {
-        List<Location> locations =
-            IntStream.rangeClosed(LEFT_DIRECTION, RIGHT_DIRECTION)
-                .filter(dx -> location.isRangeByStep(dx, dy))
-                .boxed()
-                .map(dx -> location.moveByStep(dx, dy))
-                .collect(Collectors.toList());
-        return locations;
-    }
-
-    private void addOnlyInitialMovableLocation(final int dy, final List<Location> locations) {
-        if (isInitialLocation() && location.isRangeByStep(0, INITIAL_PAWN_MOVE_DISTANCE * dy)) {
-            locations.add(location.moveByStep(0, INITIAL_PAWN_MOVE_DISTANCE * dy));
-        }
-    }
-
-    private boolean isInitialLocation() {
-        return (team.isBlack() && location.isSameY(BLACK_PAWN_INITIAL_Y))
-            || (team.isWhite() && location.isSameY(WHITE_PAWN_INITIAL_Y));
-    }
-
     @Override
     public boolean isMovable(final Location target) {
-        List<Location> nextLocations = makePossibleLocation(target);
-
-        return nextLocations.stream()
-            .anyMatch(location -> location.equals(target));
+        final int square = location.toIndex();
+        return Bitboard.contains(
+            Bitboard.pawnPushes(team, square) | Bitboard.pawnCaptures(team, square), target
+        );
     }
 
     @Override
@@ -81,6 +45,11 @@ public class Pawn extends Piece {
         return true;
     }
 
+    @Override
+    public Piece copy() {
+        return new Pawn(id, location, team);
+    }
+
     @Override
     public PieceType getPieceType() {
         return PieceType.PAWN;
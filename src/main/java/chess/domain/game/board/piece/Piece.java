@@ -1,5 +1,6 @@
 package chess.domain.game.board.piece;
 
+import chess.domain.game.board.Bitboard;
 import chess.domain.game.board.piece.location.Location;
 import chess.domain.game.team.Team;
 import java.util.ArrayList;
@@ -34,21 +35,22 @@ public abstract class Piece implements Movable {
         }
     }
 
+    public final void relocate(final Location target) {
+        location = target;
+    }
+
     public final boolean isHere(final Location location) {
         return this.location.equals(location);
     }
 
     public List<Location> findPath(final Location target) {
-        final List<Location> path = new ArrayList<>();
-        int subX = location.subtractX(target);
-        int subY = location.subtractY(target);
-        int dx = subX == 0 ? 0 : subX / Math.abs(subX);
-        int dy = subY == 0 ? 0 : subY / Math.abs(subY);
-
-        Location next = location.moveByStep(dx, dy);
-        while (!next.equals(target)) {
-            path.add(next);
-            next = next.moveByStep(dx, dy);
+        long between = Bitboard.between(location, target);
+        final List<Location> path = new ArrayList<>(Long.bitCount(between));
+        final boolean isAscending = location.toIndex() < target.toIndex();
+        while (between != 0L) {
+            final long bit = isAscending ? Long.lowestOneBit(between) : Long.highestOneBit(between);
+            path.add(Location.from(Long.numberOfTrailingZeros(bit)));
+            between &= ~bit;
         }
         return path;
     }
@@ -106,6 +108,8 @@ public abstract class Piece implements Movable {
         return getPieceType().getValue();
     }
 
+    public abstract Piece copy();
+
     public abstract PieceType getPieceType();
 
     @Override
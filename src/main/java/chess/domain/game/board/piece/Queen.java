@@ -1,5 +1,6 @@
 package chess.domain.game.board.piece;
 
+import chess.domain.game.board.Bitboard;
 import chess.domain.game.board.piece.location.Location;
 import chess.domain.game.team.Team;
 import java.util.Arrays;
@@ -30,7 +31,13 @@ public class Queen extends Piece {
 
     @Override
     public boolean isMovable(final Location target) {
-        return location.isHorizontalOrVertical(target) || location.isDiagonal(target);
+        final int square = location.toIndex();
+        return Bitboard.contains(Bitboard.rookRays(square) | Bitboard.bishopRays(square), target);
+    }
+
+    @Override
+    public Piece copy() {
+        return new Queen(id, location, team);
     }
 
     @Override
@@ -45,6 +45,13 @@ public class Location {
         return bringCacheData(x, y);
     }
 
+    public static Location from(final int index) {
+        return bringCacheData(
+            index % MAX_LOCATION + MIN_LOCATION,
+            index / MAX_LOCATION + MIN_LOCATION
+        );
+    }
+
     public static Location convert(final String location) {
         if (location.length() != LOCATION_SIZE) {
             throw new IllegalArgumentException("좌표가 잘못 입력되었습니다.");
@@ -105,6 +112,14 @@ public class Location {
         return isRange(x + dx, y + dy);
     }
 
+    public String toNotation() {
+        return String.format("%c%d", (char) ('a' + x - MIN_LOCATION), y);
+    }
+
+    public int toIndex() {
+        return (y - MIN_LOCATION) * MAX_LOCATION + (x - MIN_LOCATION);
+    }
+
     public int getX() {
         return x;
     }
@@ -34,6 +34,10 @@ public class Room {
         }
     }
 
+    public Room join(final long guestId) {
+        return new Room(id, name, hostId, guestId);
+    }
+
     public long getId() {
         return id;
     }
@@ -0,0 +1,33 @@
+package chess.domain.game.room;
+
+public class RoomEvent {
+
+    private final RoomEventType type;
+    private final Room room;
+
+    private RoomEvent(final RoomEventType type, final Room room) {
+        this.type = type;
+        this.room = room;
+    }
+
+    public static RoomEvent created(final Room room) {
+        return new RoomEvent(RoomEventType.CREATED, room);
+    }
+
+    public static RoomEvent joined(final Room room) {
+        return new RoomEvent(RoomEventType.JOINED, room);
+    }
+
+    public static RoomEvent closed(final Room room) {
+        return new RoomEvent(RoomEventType.CLOSED, room);
+    }
+
+    public RoomEventType getType() {
+        return type;
+    }
+
+    public Room getRoom() {
+        return room;
+    }
+
+}
@@ -0,0 +1,7 @@
+package chess.domain.game.room;
+
+public enum RoomEventType {
+    CREATED,
+    JOINED,
+    CLOSED
+}
@@ -3,6 +3,10 @@ package chess.domain.game.room;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 public class Rooms {
 
@@ -12,6 +16,13 @@ public class Rooms {
         this.rooms = new ArrayList<>(rooms);
     }
 
+    public Set<Long> toUserIds() {
+        return rooms.stream()
+            .flatMap(room -> Stream.of(room.getHostId(), room.getGuestId()))
+            .filter(Objects::nonNull)
+            .collect(Collectors.toSet());
+    }
+
     public List<Room> toList() {
         return Collections.unmodifiableList(rooms);
     }
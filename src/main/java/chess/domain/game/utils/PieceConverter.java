@@ -14,11 +14,19 @@ import chess.domain.game.team.Team;
 public class PieceConverter {
 
     public static Piece run(final PieceDto pieceDto) {
-        final long id = pieceDto.getId();
-        final char pieceLetter = pieceDto.getShape();
-        final Team team = Team.from(pieceDto.getColor());
-        final Location location = Location.of(pieceDto.getX(), pieceDto.getY());
-        return createPiece(id, pieceLetter, location, team);
+        return run(
+            pieceDto.getId(),
+            pieceDto.getShape(),
+            pieceDto.getColor(),
+            pieceDto.getX(),
+            pieceDto.getY()
+        );
+    }
+
+    public static Piece run(final long id, final char pieceLetter, final String color,
+        final int x, final int y) {
+
+        return createPiece(id, pieceLetter, Location.of(x, y), Team.from(color));
     }
 
     private static Piece createPiece(final long id, final char pieceLetter, final Location location,
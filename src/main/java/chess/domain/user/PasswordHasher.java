@@ -0,0 +1,87 @@
+package chess.domain.user;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
+import org.bouncycastle.crypto.generators.SCrypt;
+
+public class PasswordHasher {
+
+    private static final String ALGORITHM = "scrypt";
+    private static final String DELIMITER = "$";
+    private static final String DELIMITER_REGEX = "\\$";
+    private static final int MIN_COST_FACTOR = 1;
+    private static final int MAX_COST_FACTOR = 20;
+    private static final int BLOCK_SIZE = 8;
+    private static final int PARALLELISM = 1;
+    private static final int SALT_LENGTH = 16;
+    private static final int KEY_LENGTH = 32;
+    private static final int PART_COUNT = 4;
+    private static final int COST_FACTOR_INDEX = 1;
+    private static final int SALT_INDEX = 2;
+    private static final int KEY_INDEX = 3;
+
+    private final int costFactor;
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    public PasswordHasher(final int costFactor) {
+        if (costFactor < MIN_COST_FACTOR || MAX_COST_FACTOR < costFactor) {
+            throw new IllegalArgumentException(String.format(
+                "해시 비용은 %d 이상 %d 이하여야 합니다.", MIN_COST_FACTOR, MAX_COST_FACTOR
+            ));
+        }
+        this.costFactor = costFactor;
+    }
+
+    public String hash(final String password) {
+        final byte[] salt = new byte[SALT_LENGTH];
+        secureRandom.nextBytes(salt);
+        final byte[] key = derive(password, salt, costFactor);
+        return String.join(DELIMITER,
+            ALGORITHM,
+            String.valueOf(costFactor),
+            Base64.getEncoder().encodeToString(salt),
+            Base64.getEncoder().encodeToString(key)
+        );
+    }
+
+    public boolean matches(final String password, final String encodedPassword) {
+        if (!isHashed(encodedPassword)) {
+            return MessageDigest.isEqual(
+                password.getBytes(StandardCharsets.UTF_8),
+                encodedPassword.getBytes(StandardCharsets.UTF_8)
+            );
+        }
+        final String[] parts = encodedPassword.split(DELIMITER_REGEX);
+        final byte[] salt = Base64.getDecoder().decode(parts[SALT_INDEX]);
+        final byte[] key = Base64.getDecoder().decode(parts[KEY_INDEX]);
+        final int storedCostFactor = Integer.parseInt(parts[COST_FACTOR_INDEX]);
+        return MessageDigest.isEqual(key, derive(password, salt, storedCostFactor));
+    }
+
+    public boolean needsRehash(final String encodedPassword) {
+        if (!isHashed(encodedPassword)) {
+            return true;
+        }
+        final String[] parts = encodedPassword.split(DELIMITER_REGEX);
+        return Integer.parseInt(parts[COST_FACTOR_INDEX]) != costFactor;
+    }
+
+    private boolean isHashed(final String encodedPassword) {
+        return encodedPassword.startsWith(ALGORITHM + DELIMITER)
+            && encodedPassword.split(DELIMITER_REGEX).length == PART_COUNT;
+    }
+
+    private byte[] derive(final String password, final byte[] salt, final int costFactor) {
+        return SCrypt.generate(
+            password.getBytes(StandardCharsets.UTF_8),
+            salt,
+            1 << costFactor,
+            BLOCK_SIZE,
+            PARALLELISM,
+            KEY_LENGTH
+        );
+    }
+
+}
@@ -24,10 +24,8 @@ public class User {
         return EMPTY_USER;
     }
 
-    public void checkPassword(final String password) {
-        if (!this.password.equals(password)) {
-            throw new WrongPasswordException(password);
-        }
+    public User changePassword(final String password) {
+        return new User(id, name, password, createdTime);
     }
 
     public long getId() {
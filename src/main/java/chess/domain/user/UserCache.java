@@ -0,0 +1,114 @@
+package chess.domain.user;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+public class UserCache {
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final float LOAD_FACTOR = 0.75f;
+
+    private final int capacity;
+    private final long ttlMillis;
+    private final LongSupplier clock;
+    private final Map<Long, Entry> entries =
+        new LinkedHashMap<>(INITIAL_CAPACITY, LOAD_FACTOR, true);
+    private final Map<String, Long> userIdsByName = new HashMap<>();
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+
+    public UserCache(final int capacity, final long ttlMillis, final LongSupplier clock) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("캐시 크기는 0보다 커야 합니다.");
+        }
+        if (ttlMillis <= 0) {
+            throw new IllegalArgumentException("캐시 유지 시간은 0보다 커야 합니다.");
+        }
+        this.capacity = capacity;
+        this.ttlMillis = ttlMillis;
+        this.clock = clock;
+    }
+
+    public synchronized Optional<User> findById(final long id) {
+        final Entry entry = entries.get(id);
+        if (entry == null || entry.isExpired(clock.getAsLong())) {
+            invalidate(id);
+            missCount.incrementAndGet();
+            return Optional.empty();
+        }
+        hitCount.incrementAndGet();
+        return Optional.of(entry.user);
+    }
+
+    public synchronized Optional<User> findByName(final String name) {
+        final Long id = userIdsByName.get(name);
+        if (id == null) {
+            missCount.incrementAndGet();
+            return Optional.empty();
+        }
+        return findById(id);
+    }
+
+    public synchronized void put(final User user) {
+        invalidate(user.getId());
+        entries.put(user.getId(), new Entry(user, clock.getAsLong() + ttlMillis));
+        userIdsByName.put(user.getName(), user.getId());
+        evictLeastRecentlyUsed();
+    }
+
+    public synchronized void invalidate(final long id) {
+        final Entry entry = entries.remove(id);
+        if (entry != null) {
+            userIdsByName.remove(entry.user.getName());
+        }
+    }
+
+    public synchronized void invalidateByName(final String name) {
+        final Long id = userIdsByName.remove(name);
+        if (id != null) {
+            entries.remove(id);
+        }
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    private void evictLeastRecentlyUsed() {
+        final Iterator<Entry> iterator = entries.values().iterator();
+        while (entries.size() > capacity && iterator.hasNext()) {
+            userIdsByName.remove(iterator.next().user.getName());
+            iterator.remove();
+        }
+    }
+
+    private static class Entry {
+
+        private final User user;
+        private final long expiresAt;
+
+        private Entry(final User user, final long expiresAt) {
+            this.user = user;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isExpired(final long now) {
+            return now >= expiresAt;
+        }
+
+    }
+
+}
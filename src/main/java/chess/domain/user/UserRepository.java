@@ -2,32 +2,90 @@ package chess.domain.user;
 
 import chess.dao.UserDao;
 import chess.dao.dto.UserDto;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public class UserRepository {
 
     private final UserDao userDao;
+    private final UserCache userCache;
+
+    public UserRepository(final UserDao userDao,
+        @Value("${chess.user.cache.capacity:10000}") final int cacheCapacity,
+        @Value("${chess.user.cache.ttl-ms:600000}") final long cacheTtlMs) {
 
-    public UserRepository(final UserDao userDao) {
         this.userDao = userDao;
+        this.userCache = new UserCache(cacheCapacity, cacheTtlMs, System::currentTimeMillis);
     }
 
     public long add(final User user) {
-        return userDao.insert(UserDto.from(user));
+        userCache.invalidateByName(user.getName());
+        final long id = userDao.insert(UserDto.from(user));
+        userCache.invalidate(id);
+        return id;
+    }
+
+    public void updatePassword(final long id, final String password) {
+        userDao.updatePassword(id, password);
+        userCache.invalidate(id);
     }
 
     public User findByName(final String name) {
-        final UserDto userDto = userDao.selectByName(name);
-        return userDto.toEntity();
+        final Optional<User> cachedUser = userCache.findByName(name);
+        if (cachedUser.isPresent()) {
+            return cachedUser.get();
+        }
+        final User user = userDao.selectByName(name).toEntity();
+        userCache.put(user);
+        return user;
     }
 
     public User findById(final Long id) {
         if (Objects.isNull(id)) {
             return User.empty();
         }
-        return userDao.selectById(id).toEntity();
+        final Optional<User> cachedUser = userCache.findById(id);
+        if (cachedUser.isPresent()) {
+            return cachedUser.get();
+        }
+        final User user = userDao.selectById(id).toEntity();
+        userCache.put(user);
+        return user;
+    }
+
+    public Map<Long, User> findByIds(final Collection<Long> ids) {
+        final Map<Long, User> users = new HashMap<>();
+        final Set<Long> distinctIds = ids.stream()
+            .filter(Objects::nonNull)
+            .collect(Collectors.toSet());
+        for (final long id : distinctIds) {
+            userCache.findById(id).ifPresent(user -> users.put(id, user));
+        }
+        final Set<Long> missingIds = new HashSet<>(distinctIds);
+        missingIds.removeAll(users.keySet());
+        for (final UserDto userDto : userDao.selectByIds(missingIds)) {
+            final User user = userDto.toEntity();
+            userCache.put(user);
+            users.put(user.getId(), user);
+        }
+        return users;
+    }
+
+    public long getCacheHitCount() {
+        return userCache.getHitCount();
+    }
+
+    public long getCacheMissCount() {
+        return userCache.getMissCount();
     }
 
 }
@@ -0,0 +1,9 @@
+package chess.exception;
+
+public class GameConflictException extends RuntimeException {
+
+    public GameConflictException(final String message) {
+        super(message);
+    }
+
+}
@@ -0,0 +1,146 @@
+package chess.service;
+
+import chess.domain.game.Game;
+import chess.domain.game.GameRepository;
+import chess.domain.game.board.AlphaBetaSearch;
+import chess.domain.game.board.Board;
+import chess.domain.game.board.SearchResult;
+import chess.domain.game.board.TranspositionTable;
+import chess.domain.game.team.Team;
+import chess.exception.GameConflictException;
+import chess.web.dto.game.analysis.AnalysisResponseDto;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import javax.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+@Service
+public class AnalysisService {
+
+    private final GameRepository gameRepository;
+    private final int maxDepth;
+    private final long maxTimeMs;
+    private final ThreadPoolExecutor analysisExecutor;
+    private final BlockingQueue<TranspositionTable> transpositionTables;
+    private final Map<String, AtomicBoolean> runningAnalyses = new ConcurrentHashMap<>();
+
+    public AnalysisService(final GameRepository gameRepository,
+        @Value("${chess.analysis.max-depth:16}") final int maxDepth,
+        @Value("${chess.analysis.max-time-ms:10000}") final long maxTimeMs,
+        @Value("${chess.analysis.threads:1}") final int threads,
+        @Value("${chess.analysis.queue-capacity:8}") final int queueCapacity,
+        @Value("${chess.analysis.hash-size-mb:16}") final int hashSizeMb) {
+
+        this.gameRepository = gameRepository;
+        this.maxDepth = Math.min(Math.max(maxDepth, 1), AlphaBetaSearch.MAX_DEPTH);
+        this.maxTimeMs = maxTimeMs;
+        final AtomicInteger threadNumber = new AtomicInteger();
+        this.analysisExecutor = new ThreadPoolExecutor(
+            threads, threads, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            runnable -> {
+                final Thread thread = new Thread(runnable,
+                    "analysis-" + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }
+        );
+        this.transpositionTables = new ArrayBlockingQueue<>(threads);
+        for (int i = 0; i < threads; i++) {
+            transpositionTables.add(new TranspositionTable(hashSizeMb));
+        }
+    }
+
+    public String analyze(final long gameId, final Consumer<AnalysisResponseDto> onProgress,
+        final Consumer<Throwable> onFailure) {
+
+        final Game game = gameRepository.findById(gameId);
+        final Board board;
+        final Team turn;
+        game.lock();
+        try {
+            if (game.isFinished()) {
+                throw new GameConflictException("이미 끝난 게임은 분석할 수 없습니다.");
+            }
+            board = game.getBoard().copy();
+            turn = game.getTurn();
+        } finally {
+            game.unlock();
+        }
+
+        final String analysisId = UUID.randomUUID().toString();
+        final String analysisKey = analysisKey(gameId, analysisId);
+        final AtomicBoolean stopped = new AtomicBoolean();
+        runningAnalyses.put(analysisKey, stopped);
+        try {
+            CompletableFuture.runAsync(
+                () -> run(analysisId, board, turn, stopped, onProgress), analysisExecutor
+            ).whenComplete((ignored, e) -> {
+                runningAnalyses.remove(analysisKey);
+                if (Objects.nonNull(e)) {
+                    onFailure.accept(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            runningAnalyses.remove(analysisKey);
+            throw e;
+        }
+        return analysisId;
+    }
+
+    private void run(final String analysisId, final Board board, final Team turn,
+        final AtomicBoolean stopped, final Consumer<AnalysisResponseDto> onProgress) {
+
+        if (stopped.get()) {
+            return;
+        }
+        final long deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(maxTimeMs);
+        final TranspositionTable transpositionTable = transpositionTables.remove();
+        try {
+            transpositionTable.newSearch();
+            final SearchResult searchResult = AlphaBetaSearch.search(board, turn, maxDepth,
+                deadlineNanos, transpositionTable, stopped,
+                iteration -> onProgress.accept(AnalysisResponseDto.of(analysisId, turn,
+                    iteration, false))
+            );
+            if (!stopped.get()) {
+                onProgress.accept(AnalysisResponseDto.of(analysisId, turn, searchResult, true));
+            }
+        } finally {
+            transpositionTables.add(transpositionTable);
+        }
+    }
+
+    public void cancel(final long gameId, final String analysisId) {
+        final AtomicBoolean stopped = runningAnalyses.remove(analysisKey(gameId, analysisId));
+        if (Objects.nonNull(stopped)) {
+            stopped.set(true);
+        }
+    }
+
+    private static String analysisKey(final long gameId, final String analysisId) {
+        return gameId + ":" + analysisId;
+    }
+
+    public long getMaxTimeMs() {
+        return maxTimeMs;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        analysisExecutor.shutdownNow();
+    }
+
+}
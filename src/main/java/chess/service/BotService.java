@@ -0,0 +1,189 @@
+package chess.service;
+
+import chess.domain.game.Game;
+import chess.domain.game.board.AlphaBetaSearch;
+import chess.domain.game.board.Board;
+import chess.domain.game.board.LazySmpSearch;
+import chess.domain.game.board.SearchResult;
+import chess.domain.game.board.TranspositionTable;
+import chess.domain.game.team.Team;
+import chess.domain.user.User;
+import chess.domain.user.UserRepository;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import javax.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.stereotype.Service;
+
+@Service
+public class BotService {
+
+    private final UserRepository userRepository;
+    private final PasswordHashingService passwordHashingService;
+    private final String botName;
+    private final int maxDepth;
+    private final long moveTimeMs;
+    private final int searchThreads;
+    private final ThreadPoolExecutor searchExecutor;
+    private final ThreadPoolExecutor helperExecutor;
+    private final Semaphore helperPermits;
+    private final BlockingQueue<TranspositionTable> transpositionTables;
+    private final Set<Long> searchingGameIds = ConcurrentHashMap.newKeySet();
+    private final ReentrantLock botLock = new ReentrantLock();
+    private volatile Long botId;
+
+    public BotService(final UserRepository userRepository,
+        final PasswordHashingService passwordHashingService,
+        @Value("${chess.bot.name:computer}") final String botName,
+        @Value("${chess.bot.max-depth:8}") final int maxDepth,
+        @Value("${chess.bot.move-time-ms:1000}") final long moveTimeMs,
+        @Value("${chess.bot.threads:2}") final int threads,
+        @Value("${chess.bot.queue-capacity:32}") final int queueCapacity,
+        @Value("${chess.bot.hash-size-mb:64}") final int hashSizeMb,
+        @Value("${chess.bot.search-threads:2}") final int searchThreads,
+        @Value("${chess.bot.max-helper-threads:4}") final int maxHelperThreads) {
+
+        this.userRepository = userRepository;
+        this.passwordHashingService = passwordHashingService;
+        this.botName = botName;
+        this.maxDepth = Math.min(Math.max(maxDepth, 1), AlphaBetaSearch.MAX_DEPTH);
+        this.moveTimeMs = moveTimeMs;
+        this.searchThreads = Math.max(searchThreads, 1);
+        this.searchExecutor = new ThreadPoolExecutor(
+            threads, threads, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity), daemonThreadFactory("bot-search-")
+        );
+        this.helperPermits = new Semaphore(Math.max(maxHelperThreads, 0));
+        this.helperExecutor = new ThreadPoolExecutor(
+            Math.max(maxHelperThreads, 1), Math.max(maxHelperThreads, 1),
+            0L, TimeUnit.MILLISECONDS,
+            new LinkedBlockingQueue<>(), daemonThreadFactory("bot-search-helper-")
+        );
+        this.transpositionTables = new ArrayBlockingQueue<>(threads);
+        for (int i = 0; i < threads; i++) {
+            transpositionTables.add(new TranspositionTable(hashSizeMb));
+        }
+    }
+
+    private static ThreadFactory daemonThreadFactory(final String namePrefix) {
+        final AtomicInteger threadNumber = new AtomicInteger();
+        return runnable -> {
+            final Thread thread = new Thread(runnable,
+                namePrefix + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    public long findBotId() {
+        if (Objects.isNull(botId)) {
+            botLock.lock();
+            try {
+                if (Objects.isNull(botId)) {
+                    botId = findOrAddBot();
+                }
+            } finally {
+                botLock.unlock();
+            }
+        }
+        return botId;
+    }
+
+    private long findOrAddBot() {
+        try {
+            return userRepository.findByName(botName).getId();
+        } catch (EmptyResultDataAccessException e) {
+            return addBot();
+        }
+    }
+
+    private long addBot() {
+        final String encodedPassword = passwordHashingService.hash(UUID.randomUUID().toString())
+            .join();
+        try {
+            return userRepository.add(
+                new User(0L, botName, encodedPassword, LocalDateTime.now())
+            );
+        } catch (DuplicateKeyException e) {
+            return userRepository.findByName(botName).getId();
+        }
+    }
+
+    public boolean isBotTurn(final Game game) {
+        final Long registeredBotId = botId;
+        if (Objects.isNull(registeredBotId) || game.isFinished()
+            || Objects.isNull(game.getGuestId())) {
+            return false;
+        }
+        if (game.getTurn().isWhite()) {
+            return registeredBotId == game.getHostId();
+        }
+        return registeredBotId.equals(game.getGuestId());
+    }
+
+    public CompletableFuture<SearchResult> search(final long gameId, final Board board,
+        final Team team) {
+
+        if (!searchingGameIds.add(gameId)) {
+            return CompletableFuture.completedFuture(SearchResult.empty(0L));
+        }
+        final long deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(moveTimeMs);
+        try {
+            return CompletableFuture.supplyAsync(
+                () -> searchWithHelpers(board, team, deadlineNanos), searchExecutor
+            ).whenComplete((searchResult, e) -> searchingGameIds.remove(gameId));
+        } catch (RejectedExecutionException e) {
+            searchingGameIds.remove(gameId);
+            final CompletableFuture<SearchResult> rejected = new CompletableFuture<>();
+            rejected.completeExceptionally(e);
+            return rejected;
+        }
+    }
+
+    private SearchResult searchWithHelpers(final Board board, final Team team,
+        final long deadlineNanos) {
+
+        final TranspositionTable transpositionTable = transpositionTables.remove();
+        final int helperCount = acquireHelpers();
+        try {
+            transpositionTable.newSearch();
+            return LazySmpSearch.search(board, team, maxDepth, deadlineNanos,
+                transpositionTable, helperCount, helperExecutor);
+        } finally {
+            helperPermits.release(helperCount);
+            transpositionTables.add(transpositionTable);
+        }
+    }
+
+    private int acquireHelpers() {
+        for (int helperCount = searchThreads - 1; helperCount > 0; helperCount--) {
+            if (helperPermits.tryAcquire(helperCount)) {
+                return helperCount;
+            }
+        }
+        return 0;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        searchExecutor.shutdownNow();
+        helperExecutor.shutdownNow();
+    }
+
+}
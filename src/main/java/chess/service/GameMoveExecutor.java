@@ -0,0 +1,65 @@
+package chess.service;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import javax.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class GameMoveExecutor {
+
+    private final ExecutorService[] stripes;
+
+    public GameMoveExecutor(
+        @Value("${chess.game.move-executor.stripes:8}") final int stripeCount,
+        @Value("${chess.game.move-executor.queue-capacity:1000}") final int queueCapacity) {
+
+        if (stripeCount <= 0) {
+            throw new IllegalArgumentException("스트라이프 개수는 0보다 커야 합니다.");
+        }
+        this.stripes = new ExecutorService[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = createStripe(i, queueCapacity);
+        }
+    }
+
+    private ExecutorService createStripe(final int index, final int queueCapacity) {
+        return new ThreadPoolExecutor(
+            1, 1, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            runnable -> {
+                final Thread thread = new Thread(runnable, "game-move-" + index);
+                thread.setDaemon(true);
+                return thread;
+            }
+        );
+    }
+
+    public <T> CompletableFuture<T> submit(final long gameId, final Supplier<T> command) {
+        return CompletableFuture.supplyAsync(command, stripeOf(gameId));
+    }
+
+    private ExecutorService stripeOf(final long gameId) {
+        return stripes[Math.floorMod(Long.hashCode(gameId), stripes.length)];
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        for (final ExecutorService stripe : stripes) {
+            stripe.shutdown();
+        }
+        for (final ExecutorService stripe : stripes) {
+            try {
+                stripe.awaitTermination(1, TimeUnit.MINUTES);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+}
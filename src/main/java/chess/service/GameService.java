@@ -1,90 +1,282 @@
 package chess.service;
 
 import chess.domain.game.Game;
+import chess.domain.game.GameReloadedEvent;
 import chess.domain.game.GameRepository;
+import chess.domain.game.board.BoardCodec;
+import chess.domain.game.board.SearchResult;
 import chess.domain.game.room.Room;
+import chess.domain.game.room.RoomEvent;
+import chess.domain.game.room.Rooms;
 import chess.domain.game.team.Team;
 import chess.domain.user.User;
 import chess.domain.user.UserRepository;
 import chess.exception.GameParticipationFailureException;
 import chess.web.dto.game.GameRequestDto;
 import chess.web.dto.game.GameResponseDto;
+import chess.web.dto.game.board.BoardResponseDto;
 import chess.web.dto.game.join.JoinRequestDto;
 import chess.web.dto.game.move.MoveCheckResponseDto;
 import chess.web.dto.game.move.MoveRequestDto;
 import chess.web.dto.game.move.MoveResponseDto;
+import chess.web.dto.game.move.MovesResponseDto;
 import chess.web.dto.game.room.RoomResponseDto;
+import chess.web.dto.game.room.RoomsRequestDto;
 import chess.web.dto.game.room.RoomsResponseDto;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-@Transactional
 @Service
 public class GameService {
 
+    private static final Logger logger = LoggerFactory.getLogger(GameService.class);
+    private static final int MAX_ROOM_LIMIT = 100;
+
     private final GameRepository gameRepository;
     private final UserRepository userRepository;
+    private final RoomEventBroadcaster roomEventBroadcaster;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final GameMoveExecutor gameMoveExecutor;
+    private final BotService botService;
+    private final SimpMessagingTemplate simpMessagingTemplate;
+
+    public GameService(final GameRepository gameRepository, final UserRepository userRepository,
+        final RoomEventBroadcaster roomEventBroadcaster,
+        final ApplicationEventPublisher applicationEventPublisher,
+        final GameMoveExecutor gameMoveExecutor, final BotService botService,
+        final SimpMessagingTemplate simpMessagingTemplate) {
 
-    public GameService(final GameRepository gameRepository, final UserRepository userRepository) {
         this.gameRepository = gameRepository;
         this.userRepository = userRepository;
+        this.roomEventBroadcaster = roomEventBroadcaster;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.gameMoveExecutor = gameMoveExecutor;
+        this.botService = botService;
+        this.simpMessagingTemplate = simpMessagingTemplate;
     }
 
+    @Transactional
     public long initializeGame(final GameRequestDto gameRequestDto) {
-        return gameRepository.add(
+        final long gameId = gameRepository.add(
             gameRequestDto.getName(),
             gameRequestDto.getHostId()
         );
+        applicationEventPublisher.publishEvent(
+            RoomEvent.created(gameRepository.findRoomByGameId(gameId))
+        );
+        return gameId;
     }
 
-    public RoomsResponseDto retrieveRoomsData() {
-        final List<Room> rooms = gameRepository.findEmptyRooms().toList();
-        final List<RoomResponseDto> roomResponseDtos = rooms.stream()
+    public RoomsResponseDto retrieveRoomsData(final RoomsRequestDto roomsRequestDto) {
+        final int limit = Math.min(Math.max(roomsRequestDto.getLimit(), 1), MAX_ROOM_LIMIT);
+        final long version = roomEventBroadcaster.getVersion();
+        final List<Room> fetchedRooms = gameRepository.findEmptyRooms(
+            roomsRequestDto.getAfter(),
+            limit + 1,
+            roomsRequestDto.getName()
+        ).toList();
+        final boolean hasNext = fetchedRooms.size() > limit;
+        final Rooms rooms = new Rooms(
+            fetchedRooms.subList(0, Math.min(fetchedRooms.size(), limit))
+        );
+
+        final Map<Long, User> users = userRepository.findByIds(rooms.toUserIds());
+        final List<RoomResponseDto> roomResponseDtos = rooms.toList().stream()
             .map(room -> RoomResponseDto.of(
                 room,
-                userRepository.findById(room.getHostId()),
-                userRepository.findById(room.getGuestId())
+                findUser(users, room.getHostId()),
+                findUser(users, room.getGuestId())
             ))
             .collect(Collectors.toList());
 
-        return RoomsResponseDto.from(roomResponseDtos);
+        return RoomsResponseDto.of(roomResponseDtos, nextCursor(rooms, hasNext), version);
+    }
+
+    private Long nextCursor(final Rooms rooms, final boolean hasNext) {
+        if (!hasNext) {
+            return null;
+        }
+        final List<Room> page = rooms.toList();
+        return page.get(page.size() - 1).getId();
+    }
+
+    private User findUser(final Map<Long, User> users, final Long id) {
+        if (Objects.isNull(id)) {
+            return User.empty();
+        }
+        return users.getOrDefault(id, User.empty());
     }
 
     public GameResponseDto retrieveGameData(final long gameId) {
         final Game game = gameRepository.findById(gameId);
         final User host = userRepository.findById(game.getHostId());
         final User guest = userRepository.findById(game.getGuestId());
-        return GameResponseDto.of(game, host, guest);
+        game.lock();
+        try {
+            return GameResponseDto.of(game, host, guest);
+        } finally {
+            game.unlock();
+        }
     }
 
+    public BoardResponseDto retrieveEncodedBoard(final long gameId) {
+        final Game game = gameRepository.findById(gameId);
+        game.lock();
+        try {
+            return BoardResponseDto.from(BoardCodec.encode(game.getBoard(), game.getTurn()));
+        } finally {
+            game.unlock();
+        }
+    }
+
+    @Transactional
     public void join(final long roomId, final JoinRequestDto joinRequestDto) {
         final long guestId = joinRequestDto.getGuestId();
         final Room room = gameRepository.findRoomById(roomId);
         room.validateFull();
         room.validateAlreadyJoined(guestId);
         gameRepository.joinGuest(guestId, roomId);
+        applicationEventPublisher.publishEvent(RoomEvent.joined(room.join(guestId)));
+    }
+
+    @Transactional
+    public void joinBot(final long roomId) {
+        join(roomId, new JoinRequestDto(botService.findBotId()));
     }
 
     public MoveCheckResponseDto checkMovement(final long gameId,
         final MoveRequestDto moveRequestDto) {
         final Game game = gameRepository.findById(gameId);
-        final boolean isMovable = game.checkMovement(
-            moveRequestDto.getSource(), moveRequestDto.getTarget(), moveRequestDto.getColor()
-        );
-        return new MoveCheckResponseDto(isMovable);
+        game.lock();
+        try {
+            final boolean isMovable = game.checkMovement(
+                moveRequestDto.getSource(), moveRequestDto.getTarget(), moveRequestDto.getColor()
+            );
+            return new MoveCheckResponseDto(isMovable);
+        } finally {
+            game.unlock();
+        }
+    }
+
+    public MovesResponseDto retrieveMovableMoves(final long gameId, final Team color) {
+        final Game game = gameRepository.findById(gameId);
+        game.lock();
+        try {
+            return MovesResponseDto.from(game.bringMovableMoves(color));
+        } finally {
+            game.unlock();
+        }
     }
 
-    public MoveResponseDto move(final long gameId, final MoveRequestDto moveRequestDto) {
+    public CompletableFuture<MoveResponseDto> move(final long gameId,
+        final MoveRequestDto moveRequestDto) {
+
+        return gameMoveExecutor.submit(gameId, () -> moveInOrder(gameId, moveRequestDto));
+    }
+
+    private MoveResponseDto moveInOrder(final long gameId, final MoveRequestDto moveRequestDto) {
         final String source = moveRequestDto.getSource();
         final String target = moveRequestDto.getTarget();
         final Team color = moveRequestDto.getColor();
         final Game game = gameRepository.findById(gameId);
 
-        game.move(source, target, color);
-        gameRepository.update(game);
-        return new MoveResponseDto(source, target, color, game.isFinished());
+        final MoveResponseDto moveResponseDto;
+        final Room room;
+        game.lock();
+        try {
+            game.validatePly(moveRequestDto.getPly());
+            game.move(source, target, color, ply -> gameRepository.claimPly(game, ply));
+            gameRepository.update(game);
+            requestBotMove(game);
+            room = game.getRoom();
+            moveResponseDto =
+                new MoveResponseDto(source, target, color, game.isFinished(), game.getPly());
+        } finally {
+            game.unlock();
+        }
+        simpMessagingTemplate.convertAndSend(
+            String.format("/topic/games/%s/move", gameId), moveResponseDto
+        );
+        if (moveResponseDto.isFinished()) {
+            applicationEventPublisher.publishEvent(RoomEvent.closed(room));
+        }
+        return moveResponseDto;
+    }
+
+    private void requestBotMove(final Game game) {
+        final long gameId = game.getId();
+        try {
+            if (!botService.isBotTurn(game)) {
+                return;
+            }
+            final Team turn = game.getTurn();
+            final int ply = game.getPly();
+            botService.search(gameId, game.getBoard().copy(), turn)
+                .thenCompose(searchResult -> moveByBot(gameId, turn, ply, searchResult))
+                .exceptionally(e -> {
+                    logger.warn("봇이 수를 두지 못했습니다. gameId: {}", gameId, e);
+                    return null;
+                });
+        } catch (RuntimeException e) {
+            logger.warn("봇의 차례를 확인하지 못했습니다. gameId: {}", gameId, e);
+        }
+    }
+
+    private CompletableFuture<MoveResponseDto> moveByBot(final long gameId, final Team turn,
+        final int ply, final SearchResult searchResult) {
+
+        if (!searchResult.hasMove()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        final MoveRequestDto moveRequestDto = new MoveRequestDto(
+            searchResult.getSource().toNotation(), searchResult.getTarget().toNotation(), turn
+        );
+        moveRequestDto.setPly(ply);
+        return gameMoveExecutor.submit(gameId, () -> moveInOrder(gameId, moveRequestDto));
+    }
+
+    @EventListener
+    public void broadcastReload(final GameReloadedEvent gameReloadedEvent) {
+        final long gameId = gameReloadedEvent.getGameId();
+        simpMessagingTemplate.convertAndSend(
+            String.format("/topic/games/%s/resync", gameId), retrieveGameData(gameId)
+        );
+        final Game game = gameRepository.findById(gameId);
+        game.lock();
+        try {
+            requestBotMove(game);
+        } finally {
+            game.unlock();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeBotGames() {
+        try {
+            final long botId = botService.findBotId();
+            for (final long gameId : gameRepository.findGameIdsWaitingFor(botId)) {
+                final Game game = gameRepository.findById(gameId);
+                game.lock();
+                try {
+                    requestBotMove(game);
+                } finally {
+                    game.unlock();
+                }
+            }
+        } catch (RuntimeException e) {
+            logger.warn("봇의 차례인 게임을 이어서 두지 못했습니다.", e);
+        }
     }
 
     public long bringGameIdByRoomId(final long roomId) {
@@ -0,0 +1,59 @@
+package chess.service;
+
+import chess.domain.user.PasswordHasher;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+@Service
+public class PasswordHashingService {
+
+    private final PasswordHasher passwordHasher;
+    private final ThreadPoolExecutor hashingExecutor;
+
+    public PasswordHashingService(
+        @Value("${chess.user.password.cost-factor:14}") final int costFactor,
+        @Value("${chess.user.password.hashing-threads:2}") final int hashingThreads,
+        @Value("${chess.user.password.hashing-queue-capacity:64}") final int queueCapacity) {
+
+        this.passwordHasher = new PasswordHasher(costFactor);
+        final AtomicInteger threadNumber = new AtomicInteger();
+        this.hashingExecutor = new ThreadPoolExecutor(
+            hashingThreads, hashingThreads, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            runnable -> {
+                final Thread thread = new Thread(runnable,
+                    "password-hashing-" + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }
+        );
+    }
+
+    public CompletableFuture<String> hash(final String password) {
+        return CompletableFuture.supplyAsync(() -> passwordHasher.hash(password), hashingExecutor);
+    }
+
+    public CompletableFuture<Boolean> matches(final String password,
+        final String encodedPassword) {
+
+        return CompletableFuture.supplyAsync(
+            () -> passwordHasher.matches(password, encodedPassword), hashingExecutor
+        );
+    }
+
+    public boolean needsRehash(final String encodedPassword) {
+        return passwordHasher.needsRehash(encodedPassword);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        hashingExecutor.shutdown();
+    }
+
+}
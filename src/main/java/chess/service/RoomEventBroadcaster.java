@@ -0,0 +1,54 @@
+package chess.service;
+
+import chess.domain.game.room.Room;
+import chess.domain.game.room.RoomEvent;
+import chess.domain.user.UserRepository;
+import chess.web.dto.game.room.RoomEventResponseDto;
+import chess.web.dto.game.room.RoomResponseDto;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+public class RoomEventBroadcaster {
+
+    private static final String ROOMS_TOPIC = "/topic/rooms";
+
+    private final SimpMessagingTemplate simpMessagingTemplate;
+    private final UserRepository userRepository;
+    private final AtomicLong version = new AtomicLong();
+    private final ReentrantLock versionLock = new ReentrantLock();
+
+    public RoomEventBroadcaster(final SimpMessagingTemplate simpMessagingTemplate,
+        final UserRepository userRepository) {
+
+        this.simpMessagingTemplate = simpMessagingTemplate;
+        this.userRepository = userRepository;
+    }
+
+    // 버전은 커밋 이후에 올린다.
+    @TransactionalEventListener(fallbackExecution = true)
+    public void broadcast(final RoomEvent roomEvent) {
+        final Room room = roomEvent.getRoom();
+        final RoomResponseDto roomResponseDto = RoomResponseDto.of(
+            room,
+            userRepository.findById(room.getHostId()),
+            userRepository.findById(room.getGuestId())
+        );
+        versionLock.lock();
+        try {
+            simpMessagingTemplate.convertAndSend(ROOMS_TOPIC, RoomEventResponseDto.of(
+                roomEvent.getType(), version.incrementAndGet(), roomResponseDto
+            ));
+        } finally {
+            versionLock.unlock();
+        }
+    }
+
+    public long getVersion() {
+        return version.get();
+    }
+
+}
@@ -2,23 +2,33 @@ package chess.service;
 
 import chess.domain.user.User;
 import chess.domain.user.UserRepository;
-import chess.domain.user.WrongPasswordException;
 import chess.exception.AuthenticationFailureException;
 import chess.web.dto.user.UserRequestDto;
 import chess.web.dto.user.UserResponseDto;
+import java.util.concurrent.CompletableFuture;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
 @Service
 public class UserService {
 
+    private static final Logger logger = LoggerFactory.getLogger(UserService.class);
+
     final UserRepository userRepository;
+    final PasswordHashingService passwordHashingService;
+
+    public UserService(final UserRepository userRepository,
+        final PasswordHashingService passwordHashingService) {
 
-    public UserService(final UserRepository userRepository) {
         this.userRepository = userRepository;
+        this.passwordHashingService = passwordHashingService;
     }
 
-    public long add(final UserRequestDto userRequestDto) {
-        return userRepository.add(userRequestDto.toEntity());
+    public CompletableFuture<Long> add(final UserRequestDto userRequestDto) {
+        final User user = userRequestDto.toEntity();
+        return passwordHashingService.hash(user.getPassword())
+            .thenApply(encodedPassword -> userRepository.add(user.changePassword(encodedPassword)));
     }
 
     public UserResponseDto findUserByName(final String name) {
@@ -31,14 +41,30 @@ public class UserService {
         return UserResponseDto.from(user);
     }
 
-    public UserResponseDto authenticate(final UserRequestDto userRequestDto) {
+    public CompletableFuture<UserResponseDto> authenticate(final UserRequestDto userRequestDto) {
         final User user = userRepository.findByName(userRequestDto.getName());
-        try {
-            user.checkPassword(userRequestDto.getPassword());
-            return UserResponseDto.from(user);
-        } catch (final WrongPasswordException e) {
-            throw new AuthenticationFailureException(userRequestDto.getName());
+        final String password = userRequestDto.getPassword();
+        return passwordHashingService.matches(password, user.getPassword())
+            .thenCompose(isMatched -> {
+                if (!isMatched) {
+                    throw new AuthenticationFailureException(userRequestDto.getName());
+                }
+                return rehashIfNeeded(user, password);
+            })
+            .thenApply(ignored -> UserResponseDto.from(user));
+    }
+
+    private CompletableFuture<Void> rehashIfNeeded(final User user, final String password) {
+        if (!passwordHashingService.needsRehash(user.getPassword())) {
+            return CompletableFuture.completedFuture(null);
         }
+        return passwordHashingService.hash(password)
+            .thenAccept(encodedPassword ->
+                userRepository.updatePassword(user.getId(), encodedPassword))
+            .exceptionally(e -> {
+                logger.warn("비밀번호를 다시 해시하지 못했습니다. userId: {}", user.getId(), e);
+                return null;
+            });
     }
 
 }
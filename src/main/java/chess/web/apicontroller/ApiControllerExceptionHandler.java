@@ -1,8 +1,9 @@
 package chess.web.apicontroller;
 
-import chess.domain.user.WrongPasswordException;
 import chess.exception.AuthenticationFailureException;
+import chess.exception.GameConflictException;
 import chess.exception.GameParticipationFailureException;
+import java.util.concurrent.RejectedExecutionException;
 import org.springframework.dao.DataAccessException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -18,8 +19,21 @@ public class ApiControllerExceptionHandler {
     }
 
     @ExceptionHandler(AuthenticationFailureException.class)
-    public ResponseEntity<String> handleUnauthorizedRequest(final WrongPasswordException e) {
+    public ResponseEntity<String> handleUnauthorizedRequest(
+        final AuthenticationFailureException e) {
+
         return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(e.getMessage());
     }
 
+    @ExceptionHandler(GameConflictException.class)
+    public ResponseEntity<String> handleConflict(final GameConflictException e) {
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+    }
+
+    @ExceptionHandler(RejectedExecutionException.class)
+    public ResponseEntity<String> handleServiceUnavailable(final RejectedExecutionException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+            .body("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요.");
+    }
+
 }
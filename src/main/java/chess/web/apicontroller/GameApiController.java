@@ -1,32 +1,45 @@
 package chess.web.apicontroller;
 
 
+import chess.domain.game.team.Team;
+import chess.service.AnalysisService;
 import chess.service.GameService;
 import chess.web.dto.game.GameResponseDto;
+import chess.web.dto.game.analysis.AnalysisResponseDto;
+import chess.web.dto.game.board.BoardResponseDto;
 import chess.web.dto.game.move.MoveCheckResponseDto;
 import chess.web.dto.game.move.MoveRequestDto;
 import chess.web.dto.game.move.MoveResponseDto;
+import chess.web.dto.game.move.MovesResponseDto;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.CompletableFuture;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RequestMapping("/api/games")
 @RestController
 public class GameApiController {
 
+    private static final long ANALYSIS_TIMEOUT_MARGIN_MS = 5000L;
+
     private final GameService gameService;
-    private final SimpMessagingTemplate simpMessagingTemplate;
+    private final AnalysisService analysisService;
 
     public GameApiController(final GameService gameService,
-        final SimpMessagingTemplate simpMessagingTemplate) {
+        final AnalysisService analysisService) {
         this.gameService = gameService;
-        this.simpMessagingTemplate = simpMessagingTemplate;
+        this.analysisService = analysisService;
     }
 
     @GetMapping("/{gameId}")
@@ -34,6 +47,11 @@ public class GameApiController {
         return ResponseEntity.ok(gameService.retrieveGameData(gameId));
     }
 
+    @GetMapping("/{gameId}/board")
+    public ResponseEntity<BoardResponseDto> bringEncodedBoard(@PathVariable long gameId) {
+        return ResponseEntity.ok(gameService.retrieveEncodedBoard(gameId));
+    }
+
     @GetMapping("/{gameId}/move/check")
     public ResponseEntity<MoveCheckResponseDto> checkMovement(@PathVariable long gameId,
         @ModelAttribute MoveRequestDto moveRequestDto) {
@@ -41,14 +59,53 @@ public class GameApiController {
         return ResponseEntity.ok(gameService.checkMovement(gameId, moveRequestDto));
     }
 
+    @GetMapping("/{gameId}/moves")
+    public ResponseEntity<MovesResponseDto> bringMovableMoves(@PathVariable long gameId,
+        @RequestParam Team color) {
+
+        return ResponseEntity.ok(gameService.retrieveMovableMoves(gameId, color));
+    }
+
     @PutMapping("/{gameId}/move")
-    public ResponseEntity<MoveResponseDto> move(@PathVariable long gameId,
+    public CompletableFuture<ResponseEntity<MoveResponseDto>> move(@PathVariable long gameId,
         @RequestBody MoveRequestDto moveRequestDto) {
 
-        final MoveResponseDto moveResponseDto = gameService.move(gameId, moveRequestDto);
-        final String subscriptionUrl = String.format("/topic/games/%s/move", gameId);
-        simpMessagingTemplate.convertAndSend(subscriptionUrl, moveResponseDto);
-        return ResponseEntity.ok(moveResponseDto);
+        return gameService.move(gameId, moveRequestDto)
+            .thenApply(ResponseEntity::ok);
+    }
+
+    @GetMapping(value = "/{gameId}/analysis", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter analyze(@PathVariable long gameId) {
+        final SseEmitter sseEmitter =
+            new SseEmitter(analysisService.getMaxTimeMs() + ANALYSIS_TIMEOUT_MARGIN_MS);
+        final String analysisId = analysisService.analyze(
+            gameId,
+            analysisResponseDto -> send(sseEmitter, analysisResponseDto),
+            sseEmitter::completeWithError
+        );
+        sseEmitter.onCompletion(() -> analysisService.cancel(gameId, analysisId));
+        sseEmitter.onTimeout(() -> analysisService.cancel(gameId, analysisId));
+        sseEmitter.onError(e -> analysisService.cancel(gameId, analysisId));
+        return sseEmitter;
+    }
+
+    private void send(final SseEmitter sseEmitter, final AnalysisResponseDto analysisResponseDto) {
+        try {
+            sseEmitter.send(analysisResponseDto);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (analysisResponseDto.isFinished()) {
+            sseEmitter.complete();
+        }
+    }
+
+    @DeleteMapping("/{gameId}/analysis/{analysisId}")
+    public ResponseEntity<Void> cancelAnalysis(@PathVariable long gameId,
+        @PathVariable String analysisId) {
+
+        analysisService.cancel(gameId, analysisId);
+        return ResponseEntity.noContent().build();
     }
 
 }
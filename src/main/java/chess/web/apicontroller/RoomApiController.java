@@ -4,12 +4,14 @@ package chess.web.apicontroller;
 import chess.service.GameService;
 import chess.web.dto.game.GameResponseDto;
 import chess.web.dto.game.join.JoinRequestDto;
+import chess.web.dto.game.room.RoomsRequestDto;
 import chess.web.dto.game.room.RoomsResponseDto;
 import java.net.URI;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -30,8 +32,10 @@ public class RoomApiController {
     }
 
     @GetMapping
-    public ResponseEntity<RoomsResponseDto> bringRoomData() {
-        return ResponseEntity.ok(gameService.retrieveRoomsData());
+    public ResponseEntity<RoomsResponseDto> bringRoomData(
+        @ModelAttribute RoomsRequestDto roomsRequestDto) {
+
+        return ResponseEntity.ok(gameService.retrieveRoomsData(roomsRequestDto));
     }
 
     @PutMapping("/{roomId}/join")
@@ -50,4 +54,15 @@ public class RoomApiController {
             location(URI.create(redirectedUri)).build();
     }
 
+    @PutMapping("/{roomId}/bot")
+    public ResponseEntity<GameResponseDto> joinBot(@PathVariable long roomId) {
+        gameService.joinBot(roomId);
+        final long gameId = gameService.bringGameIdByRoomId(roomId);
+
+        final GameResponseDto gameResponseDto = gameService.retrieveGameData(gameId);
+        final String subscriptionUrl = String.format("/topic/games/%s/join", gameId);
+        simpMessagingTemplate.convertAndSend(subscriptionUrl, gameResponseDto);
+        return ResponseEntity.ok(gameResponseDto);
+    }
+
 }
@@ -4,6 +4,7 @@ import chess.service.UserService;
 import chess.web.dto.user.UserRequestDto;
 import chess.web.dto.user.UserResponseDto;
 import java.net.URI;
+import java.util.concurrent.CompletableFuture;
 import javax.servlet.http.HttpSession;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -25,18 +26,22 @@ public class UserApiController {
     }
 
     @PostMapping
-    public ResponseEntity<String> createUser(@RequestBody UserRequestDto userRequestDto) {
-        final long id = userService.add(userRequestDto);
-        return ResponseEntity.created(URI.create("/users/" + id)).body("{}");
+    public CompletableFuture<ResponseEntity<String>> createUser(
+        @RequestBody UserRequestDto userRequestDto) {
+
+        return userService.add(userRequestDto)
+            .thenApply(id -> ResponseEntity.created(URI.create("/users/" + id)).body("{}"));
     }
 
     @PostMapping("/authentication")
-    public ResponseEntity<UserResponseDto> authenticateUser(
+    public CompletableFuture<ResponseEntity<UserResponseDto>> authenticateUser(
         @RequestBody UserRequestDto userRequestDto, final HttpSession session) {
 
-        final UserResponseDto userResponseDto = userService.authenticate(userRequestDto);
-        session.setAttribute(SESSION_KEY, userRequestDto.getName());
-        return ResponseEntity.ok(userResponseDto);
+        return userService.authenticate(userRequestDto)
+            .thenApply(userResponseDto -> {
+                session.setAttribute(SESSION_KEY, userRequestDto.getName());
+                return ResponseEntity.ok(userResponseDto);
+            });
     }
 
 }
@@ -10,9 +10,13 @@ import java.util.stream.Collectors;
 
 public class GameResponseDto {
 
+    private long roomId;
     private String name;
     private Team turn;
     private boolean finished;
+    private int ply;
+    private double whiteScore;
+    private double blackScore;
     private List<PieceResponseDto> pieceResponseDtos;
     private UserResponseDto host;
     private UserResponseDto guest;
@@ -20,13 +24,18 @@ public class GameResponseDto {
     public GameResponseDto() {
     }
 
-    private GameResponseDto(final String name, final Team turn, final boolean finished,
+    private GameResponseDto(final long roomId, final String name, final Team turn,
+        final boolean finished, final int ply, final double whiteScore, final double blackScore,
         final List<PieceResponseDto> pieceResponseDtos, final UserResponseDto host,
         final UserResponseDto guest) {
 
+        this.roomId = roomId;
         this.name = name;
         this.turn = turn;
         this.finished = finished;
+        this.ply = ply;
+        this.whiteScore = whiteScore;
+        this.blackScore = blackScore;
         this.pieceResponseDtos = pieceResponseDtos;
         this.host = host;
         this.guest = guest;
@@ -40,15 +49,23 @@ public class GameResponseDto {
                 .collect(Collectors.toList());
 
         return new GameResponseDto(
+            game.getRoom().getId(),
             game.getRoomName(),
             game.getTurn(),
             game.isFinished(),
+            game.getPly(),
+            game.getBoard().score(Team.WHITE),
+            game.getBoard().score(Team.BLACK),
             pieceResponseDtos,
             UserResponseDto.from(host),
             UserResponseDto.from(guest)
         );
     }
 
+    public long getRoomId() {
+        return roomId;
+    }
+
     public String getName() {
         return name;
     }
@@ -61,6 +78,18 @@ public class GameResponseDto {
         return finished;
     }
 
+    public int getPly() {
+        return ply;
+    }
+
+    public double getWhiteScore() {
+        return whiteScore;
+    }
+
+    public double getBlackScore() {
+        return blackScore;
+    }
+
     public List<PieceResponseDto> getPieceResponseDtos() {
         return pieceResponseDtos;
     }
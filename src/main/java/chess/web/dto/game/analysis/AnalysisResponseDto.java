@@ -0,0 +1,85 @@
+package chess.web.dto.game.analysis;
+
+import chess.domain.game.board.SearchResult;
+import chess.domain.game.team.Team;
+
+public class AnalysisResponseDto {
+
+    private String analysisId;
+    private Team color;
+    private String source;
+    private String target;
+    private int score;
+    private int depth;
+    private long nodes;
+    private boolean finished;
+
+    public AnalysisResponseDto() {
+    }
+
+    private AnalysisResponseDto(final String analysisId, final Team color, final String source,
+        final String target, final int score, final int depth, final long nodes,
+        final boolean finished) {
+
+        this.analysisId = analysisId;
+        this.color = color;
+        this.source = source;
+        this.target = target;
+        this.score = score;
+        this.depth = depth;
+        this.nodes = nodes;
+        this.finished = finished;
+    }
+
+    public static AnalysisResponseDto of(final String analysisId, final Team color,
+        final SearchResult searchResult, final boolean finished) {
+
+        if (!searchResult.hasMove()) {
+            return new AnalysisResponseDto(analysisId, color, null, null, 0,
+                searchResult.getDepth(), searchResult.getNodes(), finished);
+        }
+        return new AnalysisResponseDto(
+            analysisId,
+            color,
+            searchResult.getSource().toNotation(),
+            searchResult.getTarget().toNotation(),
+            searchResult.getScore(),
+            searchResult.getDepth(),
+            searchResult.getNodes(),
+            finished
+        );
+    }
+
+    public String getAnalysisId() {
+        return analysisId;
+    }
+
+    public Team getColor() {
+        return color;
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    public String getTarget() {
+        return target;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public int getDepth() {
+        return depth;
+    }
+
+    public long getNodes() {
+        return nodes;
+    }
+
+    public boolean isFinished() {
+        return finished;
+    }
+
+}
@@ -0,0 +1,24 @@
+package chess.web.dto.game.board;
+
+import java.util.Base64;
+
+public class BoardResponseDto {
+
+    private String board;
+
+    public BoardResponseDto() {
+    }
+
+    private BoardResponseDto(final String board) {
+        this.board = board;
+    }
+
+    public static BoardResponseDto from(final byte[] encodedBoard) {
+        return new BoardResponseDto(Base64.getEncoder().encodeToString(encodedBoard));
+    }
+
+    public String getBoard() {
+        return board;
+    }
+
+}
@@ -7,6 +7,7 @@ public class MoveRequestDto {
     private String source;
     private String target;
     private Team color;
+    private Integer ply;
 
     public MoveRequestDto() {
     }
@@ -40,4 +41,13 @@ public class MoveRequestDto {
     public void setColor(final Team color) {
         this.color = color;
     }
+
+    public Integer getPly() {
+        return ply;
+    }
+
+    public void setPly(final Integer ply) {
+        this.ply = ply;
+    }
+
 }
@@ -8,17 +8,19 @@ public class MoveResponseDto {
     private String target;
     private Team color;
     private boolean finished;
+    private int ply;
 
     public MoveResponseDto() {
     }
 
     public MoveResponseDto(final String source, final String target, final Team color,
-        final boolean finished) {
+        final boolean finished, final int ply) {
 
         this.source = source;
         this.target = target;
         this.color = color;
         this.finished = finished;
+        this.ply = ply;
     }
 
     public String getSource() {
@@ -37,4 +39,8 @@ public class MoveResponseDto {
         return finished;
     }
 
+    public int getPly() {
+        return ply;
+    }
+
 }
@@ -0,0 +1,34 @@
+package chess.web.dto.game.move;
+
+import chess.domain.game.board.MoveBuffer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class MovesResponseDto {
+
+    private Map<String, List<String>> movableLocations;
+
+    public MovesResponseDto() {
+    }
+
+    private MovesResponseDto(final Map<String, List<String>> movableLocations) {
+        this.movableLocations = movableLocations;
+    }
+
+    public static MovesResponseDto from(final MoveBuffer moveBuffer) {
+        final Map<String, List<String>> movableLocations = new LinkedHashMap<>();
+        for (int i = 0; i < moveBuffer.size(); i++) {
+            movableLocations
+                .computeIfAbsent(moveBuffer.source(i).toNotation(), source -> new ArrayList<>())
+                .add(moveBuffer.target(i).toNotation());
+        }
+        return new MovesResponseDto(movableLocations);
+    }
+
+    public Map<String, List<String>> getMovableLocations() {
+        return movableLocations;
+    }
+
+}
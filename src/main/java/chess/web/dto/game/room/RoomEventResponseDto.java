@@ -0,0 +1,40 @@
+package chess.web.dto.game.room;
+
+import chess.domain.game.room.RoomEventType;
+
+public class RoomEventResponseDto {
+
+    private RoomEventType type;
+    private long version;
+    private RoomResponseDto room;
+
+    public RoomEventResponseDto() {
+    }
+
+    private RoomEventResponseDto(final RoomEventType type, final long version,
+        final RoomResponseDto room) {
+
+        this.type = type;
+        this.version = version;
+        this.room = room;
+    }
+
+    public static RoomEventResponseDto of(final RoomEventType type, final long version,
+        final RoomResponseDto room) {
+
+        return new RoomEventResponseDto(type, version, room);
+    }
+
+    public RoomEventType getType() {
+        return type;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public RoomResponseDto getRoom() {
+        return room;
+    }
+
+}
@@ -0,0 +1,44 @@
+package chess.web.dto.game.room;
+
+public class RoomsRequestDto {
+
+    private static final int DEFAULT_LIMIT = 20;
+
+    private long after;
+    private int limit = DEFAULT_LIMIT;
+    private String name = "";
+
+    public RoomsRequestDto() {
+    }
+
+    public RoomsRequestDto(final long after, final int limit, final String name) {
+        this.after = after;
+        this.limit = limit;
+        this.name = name;
+    }
+
+    public long getAfter() {
+        return after;
+    }
+
+    public void setAfter(final long after) {
+        this.after = after;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public void setLimit(final int limit) {
+        this.limit = limit;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(final String name) {
+        this.name = name;
+    }
+
+}
@@ -5,20 +5,36 @@ import java.util.List;
 public class RoomsResponseDto {
 
     private List<RoomResponseDto> roomResponseDtos;
+    private Long nextCursor;
+    private long version;
 
     public RoomsResponseDto() {
     }
 
-    private RoomsResponseDto(final List<RoomResponseDto> roomResponseDtos) {
+    private RoomsResponseDto(final List<RoomResponseDto> roomResponseDtos,
+        final Long nextCursor, final long version) {
+
         this.roomResponseDtos = roomResponseDtos;
+        this.nextCursor = nextCursor;
+        this.version = version;
     }
 
-    public static RoomsResponseDto from(final List<RoomResponseDto> roomResponseDtos) {
-        return new RoomsResponseDto(roomResponseDtos);
+    public static RoomsResponseDto of(final List<RoomResponseDto> roomResponseDtos,
+        final Long nextCursor, final long version) {
+
+        return new RoomsResponseDto(roomResponseDtos, nextCursor, version);
     }
 
     public List<RoomResponseDto> getRoomResponseDtos() {
         return roomResponseDtos;
     }
 
+    public Long getNextCursor() {
+        return nextCursor;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
 }
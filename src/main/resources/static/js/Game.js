@@ -1,13 +1,14 @@
 import {Board} from "./board/Board.js"
 import {GUEST, HOST, Role} from "./role/Role.js";
-import {getData} from "./utils/FetchUtil.js"
+import {deleteData, getData, putData} from "./utils/FetchUtil.js"
 import {getCookie, USER_ID_KEY} from "./utils/CookieUtil.js";
 import {CHESS_URL} from "./URL.js";
 
 const url = CHESS_URL;
-let board, socket, stompClient;
+let board, socket, stompClient, analysisSource, analysisId;
 
 window.onload = async function () {
+  document.querySelector(".analysis-button").addEventListener("click", toggleAnalysis);
   await initSocket();
   const response = await requestData();
   if (!response) {
@@ -32,6 +33,23 @@ window.onload = async function () {
     return;
   }
   fillInformation(host, guest, name);
+  showBotButton(host, response["roomId"]);
+}
+
+function showBotButton(host, roomId) {
+  if (getCookie(USER_ID_KEY) != host["id"]) {
+    return;
+  }
+  const botButton = document.querySelector(".bot-button");
+  botButton.hidden = false;
+  botButton.addEventListener("click", async () => {
+    botButton.disabled = true;
+    const response = await putData(`${url}/api/rooms/${roomId}/bot`);
+    if (!response) {
+      botButton.disabled = false;
+      alert("컴퓨터를 초대하지 못했습니다.");
+    }
+  });
 }
 
 async function initGame(response) {
@@ -41,8 +59,9 @@ async function initGame(response) {
   const name = response["name"];
   const turn = response["turn"];
   const finished = response["finished"];
+  const ply = response["ply"];
   const role = makeRole(host, guest);
-  initBoard(pieces, turn, role);
+  initBoard(pieces, turn, role, ply);
   fillInformation(host, guest, name)
 }
 
@@ -67,8 +86,8 @@ function makeRole(host, guest) {
   }
 }
 
-function initBoard(pieces, turn, role) {
-  board = new Board(pieces, turn, role);
+function initBoard(pieces, turn, role, ply) {
+  board = new Board(pieces, turn, role, ply);
   addEvent(board);
 }
 
@@ -113,19 +132,61 @@ async function initSocket() {
 
     stompClient.subscribe(`/topic/games/${gameId}/join`,
         response => actByJoin(JSON.parse(response.body)));
+
+    stompClient.subscribe(`/topic/games/${gameId}/resync`,
+        () => window.location.reload());
   })
 }
 
+function toggleAnalysis() {
+  if (analysisSource) {
+    stopAnalysis();
+    return;
+  }
+  const gameId = findGameIdInUri();
+  const analysisContent = document.querySelector(".analysis-content");
+  analysisContent.innerHTML = "분석 중...";
+  analysisSource = new EventSource(`${url}/api/games/${gameId}/analysis`);
+  analysisSource.onmessage = event => {
+    const analysis = JSON.parse(event.data);
+    analysisId = analysis["analysisId"];
+    analysisContent.innerHTML = `깊이 ${analysis["depth"]}: ${analysis["source"]} → `
+        + `${analysis["target"]} (${(analysis["score"] / 100).toFixed(2)})`;
+    if (analysis["finished"]) {
+      closeAnalysis();
+    }
+  };
+  analysisSource.onerror = () => closeAnalysis();
+}
+
+function stopAnalysis() {
+  if (analysisId) {
+    deleteData(`${url}/api/games/${findGameIdInUri()}/analysis/${analysisId}`);
+  }
+  closeAnalysis();
+}
+
+function closeAnalysis() {
+  if (analysisSource) {
+    analysisSource.close();
+  }
+  analysisSource = null;
+  analysisId = null;
+}
+
 async function actByMove(response) {
+  stopAnalysis();
   const source = response["source"];
   const target = response["target"];
   const color = response["color"];
   const finished = response["finished"];
-  board.moveOtherSide(source, target, color, finished);
+  const ply = response["ply"];
+  board.moveOtherSide(source, target, color, ply);
   await checkGameEnd(finished);
 }
 
 function actByJoin(response) {
+  document.querySelector(".bot-button").hidden = true;
   initGame(response);
 }
 
@@ -1,10 +1,86 @@
 import {Rooms} from "./room/Rooms.js"
+import {Room} from "./room/Room.js"
 import {getData} from "./utils/FetchUtil.js"
 import {CHESS_URL} from "./URL.js";
 
 const url = CHESS_URL;
+const PAGE_LIMIT = 20;
+
+let nextCursor = 0;
+let nameFilter = "";
+let lobbyVersion = 0;
 
 window.onload = async function () {
-  const response = await getData(`${url}/api/rooms`);
-  const rooms = new Rooms(response["roomResponseDtos"]);
+  const moreButton = document.querySelector(".more-rooms");
+  const nameInput = document.querySelector(".room-filter");
+  moreButton.addEventListener("click", loadRooms);
+  nameInput.addEventListener("change", async () => {
+    nameFilter = nameInput.value.trim();
+    await resyncRooms();
+  });
+  await loadRooms();
+  initSocket();
+}
+
+async function resyncRooms() {
+  nextCursor = 0;
+  document.querySelector(".rooms").innerHTML = "";
+  await loadRooms();
+}
+
+async function loadRooms() {
+  const response = await getData(`${url}/api/rooms`, {
+    after: nextCursor,
+    limit: PAGE_LIMIT,
+    name: nameFilter
+  });
+  new Rooms(response["roomResponseDtos"]);
+  nextCursor = response["nextCursor"];
+  lobbyVersion = Math.max(lobbyVersion, response["version"]);
+  document.querySelector(".more-rooms").hidden = nextCursor === null;
+}
+
+function initSocket() {
+  const socket = new SockJS(`${url}/stomp`);
+  const stompClient = Stomp.over(socket);
+  stompClient.connect({}, () => {
+    stompClient.subscribe("/topic/rooms",
+        response => actByRoomEvent(JSON.parse(response.body)));
+  })
+}
+
+async function actByRoomEvent(response) {
+  const version = response["version"];
+  if (version <= lobbyVersion) {
+    return;
+  }
+  if (version > lobbyVersion + 1) {
+    lobbyVersion = 0;
+    await resyncRooms();
+    return;
+  }
+  lobbyVersion = version;
+  const roomDto = response["room"];
+  if (response["type"] === "CREATED") {
+    addRoom(roomDto);
+    return;
+  }
+  removeRoom(roomDto);
+}
+
+function addRoom(roomDto) {
+  const hasUnloadedPage = nextCursor !== null;
+  const isFiltered = !roomDto["name"].startsWith(nameFilter);
+  const isLoaded = document.querySelector(`.room#room${roomDto["id"]}`) !== null;
+  if (hasUnloadedPage || isFiltered || isLoaded) {
+    return;
+  }
+  new Room(roomDto);
+}
+
+function removeRoom(roomDto) {
+  const component = document.querySelector(`.room#room${roomDto["id"]}`);
+  if (component !== null) {
+    component.remove();
+  }
 }
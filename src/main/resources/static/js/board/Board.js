@@ -1,7 +1,7 @@
 import {Tiles} from "../tile/Tiles.js"
 import {Pieces} from "../piece/Pieces.js"
 import {Turn} from "./Turn.js"
-import {getData, putData} from "../utils/FetchUtil.js"
+import {CONFLICT, getData, putData} from "../utils/FetchUtil.js"
 import {CHESS_URL} from "../URL.js";
 
 const url = CHESS_URL;
@@ -13,14 +13,16 @@ export class Board {
   #sourceTile
   #turn
   #role
+  #ply
 
-  constructor(pieceDtos, turn, role) {
+  constructor(pieceDtos, turn, role, ply) {
     this.#tiles = new Tiles();
     this.#pieces = new Pieces(pieceDtos);
     this.#component = document.querySelector(".grid");
     this.#sourceTile = null;
     this.#turn = new Turn(turn);
     this.#role = role;
+    this.#ply = ply;
     this.#addEvent()
   }
 
@@ -152,11 +154,17 @@ export class Board {
 
   async #requestMove(piece, targetTile, body, gameId) {
     const response = await putData(
-        `${url}/api/games/${gameId}/move`, body);
+        `${url}/api/games/${gameId}/move`, {...body, ply: this.#ply},
+        status => {
+          if (status === CONFLICT) {
+            window.location.reload();
+          }
+        });
 
     if (!response) {
       return;
     }
+    this.#ply = response["ply"];
     this.#pieces.move(piece, targetTile)
     this.#turn.changeTurn();
     if (response["finished"]) {
@@ -196,7 +204,8 @@ export class Board {
     return false;
   }
 
-  moveOtherSide(source, target, color) {
+  moveOtherSide(source, target, color, ply) {
+    this.#ply = Math.max(this.#ply, ply);
     if (color === "white" && this.#role.isHost()) {
       return;
     }
@@ -37,7 +37,9 @@ export async function postData(url = '', data = {}) {
   .catch(error => console.error('Error:', error));
 }
 
-export async function putData(url = '', data = {}) {
+export const CONFLICT = 409;
+
+export async function putData(url = '', data = {}, onFailure = () => {}) {
   return await fetch(url, {
     method: 'PUT',
     mode: 'cors',
@@ -54,9 +56,26 @@ export async function putData(url = '', data = {}) {
       window.location.href = response.url;
       return {success: "true"};
     } else if (!response.ok) {
+      onFailure(response.status);
       throw new Error(response.status);
     }
     return response.json()
   })
   .catch(error => console.error('Error:', error));
+}
+
+export async function deleteData(url = '') {
+  return await fetch(url, {
+    method: 'DELETE',
+    mode: 'cors',
+    cache: 'no-cache',
+    credentials: 'same-origin'
+  })
+  .then(response => {
+    if (!response.ok) {
+      throw new Error(response.status);
+    }
+    return {success: "true"};
+  })
+  .catch(error => console.error('Error:', error));
 }
\ No newline at end of file
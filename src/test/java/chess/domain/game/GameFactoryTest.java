@@ -0,0 +1,79 @@
+package chess.domain.game;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+import chess.dao.dto.GameDto;
+import chess.dao.dto.MoveDto;
+import chess.dao.dto.PieceDto;
+import chess.dao.dto.RoomDto;
+import chess.domain.game.board.Board;
+import chess.domain.game.board.piece.location.Location;
+import chess.domain.game.team.Team;
+import chess.domain.game.utils.PieceConverter;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class GameFactoryTest {
+
+    private static final long GAME_ID = 1L;
+
+    @DisplayName("스냅샷 이후의 기보를 다시 두어 게임을 복원한다.")
+    @Test
+    void of_replayMoves() {
+        // given
+        final GameDto gameDto = GameDto.of(GAME_ID, "white", false, 4, LocalDateTime.now());
+        final List<PieceDto> pieceDtos = Arrays.asList(
+            PieceDto.of(1L, GAME_ID, 5, 1, "white", 'k'),
+            PieceDto.of(2L, GAME_ID, 1, 1, "white", 'r'),
+            PieceDto.of(3L, GAME_ID, 5, 8, "black", 'k'),
+            PieceDto.of(4L, GAME_ID, 2, 7, "black", 'p')
+        );
+        final RoomDto roomDto = RoomDto.of(1L, GAME_ID, 1L, 2L, "room");
+        final List<MoveDto> moveDtos = Arrays.asList(
+            MoveDto.of(GAME_ID, 5, "a1", "a6", null, LocalDateTime.now()),
+            MoveDto.of(GAME_ID, 6, "b7", "a6", 2L, LocalDateTime.now())
+        );
+
+        // when
+        final Game game = GameFactory.of(gameDto, pieceDtos, roomDto, moveDtos);
+
+        // then
+        assertThat(game.getPly()).isEqualTo(6);
+        assertThat(game.getPersistedPly()).isEqualTo(6);
+        assertThat(game.getTurn()).isEqualTo(Team.WHITE);
+        assertThat(game.toPieceIds()).containsExactlyInAnyOrder(1L, 3L, 4L);
+        assertThat(game.drainMoveRecords().isEmpty()).isTrue();
+
+        final GameChangeSet changeSet = game.drainChanges();
+        assertThat(changeSet.getMovedPieces()).containsExactly(entry(4L, Location.of(1, 6)));
+        assertThat(changeSet.getCapturedPieceIds()).containsExactly(2L);
+        assertThat(changeSet.getPlyCount()).isEqualTo(2);
+    }
+
+    @DisplayName("조회한 행으로 바로 만든 보드로 게임을 복원한다.")
+    @Test
+    void of_board() {
+        // given
+        final GameDto gameDto = GameDto.of(GAME_ID, "black", false, 3, LocalDateTime.now());
+        final Board board = Board.of(Arrays.asList(
+            PieceConverter.run(1L, 'k', "white", 5, 1),
+            PieceConverter.run(3L, 'k', "black", 5, 8)
+        ));
+        final RoomDto roomDto = RoomDto.of(1L, GAME_ID, 1L, null, "room");
+
+        // when
+        final Game game = GameFactory.of(gameDto, board, roomDto, Collections.emptyList());
+
+        // then
+        assertThat(game.getPly()).isEqualTo(3);
+        assertThat(game.getTurn()).isEqualTo(Team.BLACK);
+        assertThat(game.toPieceIds()).containsExactlyInAnyOrder(1L, 3L);
+        assertThat(game.drainChanges().isEmpty()).isTrue();
+    }
+
+}
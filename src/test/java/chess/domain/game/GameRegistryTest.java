@@ -0,0 +1,169 @@
+package chess.domain.game;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import chess.domain.game.board.Board;
+import chess.domain.game.room.Room;
+import chess.domain.game.team.Team;
+import chess.exception.GameConflictException;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class GameRegistryTest {
+
+    private GameRegistry gameRegistry;
+
+    @BeforeEach
+    void setUp() {
+        gameRegistry = new GameRegistry(2);
+    }
+
+    @DisplayName("이미 등록된 게임이 있으면 기존 게임을 돌려준다.")
+    @Test
+    void putIfAbsent_resident() {
+        // given
+        final Game game = createGame(1L);
+        gameRegistry.putIfAbsent(game);
+
+        // when
+        final Game residentGame = gameRegistry.putIfAbsent(createGame(1L));
+
+        // then
+        assertThat(residentGame).isSameAs(game);
+    }
+
+    @DisplayName("크기를 넘으면 가장 오래 사용되지 않은 게임부터 내보낸다.")
+    @Test
+    void putIfAbsent_evictLeastRecentlyUsed() {
+        // given
+        gameRegistry.putIfAbsent(createGame(1L));
+        gameRegistry.putIfAbsent(createGame(2L));
+        gameRegistry.find(1L);
+
+        // when
+        gameRegistry.putIfAbsent(createGame(3L));
+
+        // then
+        assertThat(gameRegistry.find(1L)).isPresent();
+        assertThat(gameRegistry.find(2L)).isEmpty();
+        assertThat(gameRegistry.find(3L)).isPresent();
+    }
+
+    @DisplayName("저장되지 않은 게임은 저장될 때까지 내보내지 않는다.")
+    @Test
+    void putIfAbsent_keepDirtyGame() {
+        // given
+        final Game dirtyGame = createGame(1L);
+        gameRegistry.markDirty(dirtyGame);
+        gameRegistry.putIfAbsent(createGame(2L));
+
+        // when
+        gameRegistry.putIfAbsent(createGame(3L));
+
+        // then
+        assertThat(gameRegistry.find(1L)).isPresent();
+        assertThat(gameRegistry.find(2L)).isEmpty();
+    }
+
+    @DisplayName("여러 번 변경된 게임도 한 번만 저장 대상이 된다.")
+    @Test
+    void drainDirtyGames() {
+        // given
+        final Game game = createGame(1L);
+        gameRegistry.markDirty(game);
+        gameRegistry.markDirty(game);
+
+        // when, then
+        assertThat(gameRegistry.drainDirtyGames()).containsExactly(game);
+        assertThat(gameRegistry.isDirty(1L)).isFalse();
+        assertThat(gameRegistry.drainDirtyGames()).isEmpty();
+    }
+
+    @DisplayName("저장 대상으로 꺼낸 게임은 저장을 마칠 때까지 내보내지 않는다.")
+    @Test
+    void drainDirtyGames_keepFlushingGame() {
+        // given
+        final Game flushingGame = createGame(1L);
+        gameRegistry.markDirty(flushingGame);
+        gameRegistry.putIfAbsent(createGame(2L));
+        gameRegistry.drainDirtyGames();
+
+        // when
+        gameRegistry.putIfAbsent(createGame(3L));
+
+        // then
+        assertThat(gameRegistry.find(1L)).containsSame(flushingGame);
+        assertThat(gameRegistry.find(2L)).isEmpty();
+    }
+
+    @DisplayName("저장을 마친 게임은 크기를 넘으면 내보낸다.")
+    @Test
+    void completeFlush() {
+        // given
+        final Game flushedGame = createGame(1L);
+        gameRegistry.markDirty(flushedGame);
+        gameRegistry.markDirty(createGame(2L));
+        gameRegistry.drainDirtyGames();
+        gameRegistry.putIfAbsent(createGame(3L));
+
+        // when
+        gameRegistry.completeFlush(flushedGame);
+
+        // then
+        assertThat(gameRegistry.find(1L)).isEmpty();
+        assertThat(gameRegistry.find(2L)).isPresent();
+        assertThat(gameRegistry.find(3L)).isPresent();
+    }
+
+    @DisplayName("등록된 게임과 다른 인스턴스를 변경하면 예외가 발생한다.")
+    @Test
+    void markDirty_otherInstance() {
+        // given
+        gameRegistry.putIfAbsent(createGame(1L));
+
+        // when, then
+        assertThatThrownBy(() -> gameRegistry.markDirty(createGame(1L)))
+            .isInstanceOf(GameConflictException.class);
+        assertThat(gameRegistry.isDirty(1L)).isFalse();
+    }
+
+    @DisplayName("다시 불러온 게임으로 바꾸면 이전 게임의 변경은 저장 대상에서 빠진다.")
+    @Test
+    void replace() {
+        // given
+        gameRegistry.markDirty(createGame(1L));
+        final Game reloadedGame = createGame(1L);
+
+        // when
+        gameRegistry.replace(reloadedGame);
+
+        // then
+        assertThat(gameRegistry.find(1L)).containsSame(reloadedGame);
+        assertThat(gameRegistry.isDirty(1L)).isFalse();
+        assertThat(gameRegistry.drainDirtyGames()).isEmpty();
+    }
+
+    @DisplayName("내보낸 게임은 저장 대상에서도 빠진다.")
+    @Test
+    void evict() {
+        // given
+        gameRegistry.markDirty(createGame(1L));
+
+        // when
+        gameRegistry.evict(1L);
+
+        // then
+        assertThat(gameRegistry.find(1L)).isEmpty();
+        assertThat(gameRegistry.isDirty(1L)).isFalse();
+        assertThat(gameRegistry.drainDirtyGames()).isEmpty();
+    }
+
+    private Game createGame(final long id) {
+        return Game.of(id, LocalDateTime.now(), Team.WHITE, false,
+            Board.createWithInitialLocation(), new Room(id, "room", 1L, null));
+    }
+
+}
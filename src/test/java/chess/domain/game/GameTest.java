@@ -0,0 +1,188 @@
+package chess.domain.game;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
+
+import chess.domain.game.board.Board;
+import chess.domain.game.board.MoveFailureException;
+import chess.domain.game.board.piece.King;
+import chess.domain.game.board.piece.Pawn;
+import chess.domain.game.board.piece.Piece;
+import chess.domain.game.board.piece.Rook;
+import chess.domain.game.board.piece.location.Location;
+import chess.domain.game.room.Room;
+import chess.domain.game.team.Team;
+import chess.exception.GameConflictException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class GameTest {
+
+    private Game game;
+
+    @BeforeEach
+    void setUp() {
+        final List<Piece> pieces = new ArrayList<>(Arrays.asList(
+            King.of(1L, Location.of(5, 1), Team.WHITE),
+            Rook.of(2L, Location.of(1, 1), Team.WHITE),
+            King.of(3L, Location.of(5, 8), Team.BLACK),
+            Pawn.of(4L, Location.of(2, 7), Team.BLACK)
+        ));
+        game = Game.of(1L, LocalDateTime.now(), Team.WHITE, false, Board.of(pieces),
+            new Room(1L, "room", 1L, 2L));
+    }
+
+    @DisplayName("말을 움직이면 움직인 말의 위치와 바뀐 차례가 기록된다.")
+    @Test
+    void move_recordChanges() {
+        // when
+        game.move("a1", "a3", Team.WHITE);
+        final GameChangeSet changeSet = game.drainChanges();
+
+        // then
+        assertThat(changeSet.getMovedPieces()).containsExactly(entry(2L, Location.of(1, 3)));
+        assertThat(changeSet.getCapturedPieceIds()).isEmpty();
+        assertThat(changeSet.getTurn()).isEqualTo(Team.BLACK);
+        assertThat(changeSet.isFinished()).isFalse();
+        assertThat(game.drainChanges().isEmpty()).isTrue();
+    }
+
+    @DisplayName("잡힌 말은 움직인 말 목록에서 빠지고 잡힌 말로 기록된다.")
+    @Test
+    void move_recordCapture() {
+        // when
+        game.move("a1", "a6", Team.WHITE);
+        game.move("b7", "a6", Team.BLACK);
+        final GameChangeSet changeSet = game.drainChanges();
+
+        // then
+        assertThat(changeSet.getMovedPieces()).containsExactly(entry(4L, Location.of(1, 6)));
+        assertThat(changeSet.getCapturedPieceIds()).containsExactly(2L);
+        assertThat(changeSet.getTurn()).isEqualTo(Team.WHITE);
+    }
+
+    @DisplayName("킹을 잡으면 남은 말이 모두 지워지고 게임 종료가 기록된다.")
+    @Test
+    void move_recordKingCatch() {
+        // when
+        game.move("a1", "a8", Team.WHITE);
+        game.move("b7", "b6", Team.BLACK);
+        game.move("a8", "e8", Team.WHITE);
+        final GameChangeSet changeSet = game.drainChanges();
+
+        // then
+        assertThat(changeSet.getMovedPieces()).isEmpty();
+        assertThat(changeSet.getCapturedPieceIds()).containsExactlyInAnyOrder(1L, 2L, 3L, 4L);
+        assertThat(changeSet.isFinished()).isTrue();
+    }
+
+    @DisplayName("말을 움직일 때마다 수순과 잡은 말이 기보로 기록된다.")
+    @Test
+    void move_recordMoveRecords() {
+        // when
+        game.move("a1", "a6", Team.WHITE);
+        game.move("b7", "a6", Team.BLACK);
+        final GameChangeSet moveRecordSet = game.drainMoveRecords();
+
+        // then
+        final List<MoveRecord> moveRecords = moveRecordSet.getMoveRecords();
+        assertThat(moveRecords).extracting(MoveRecord::getPly).containsExactly(1, 2);
+        assertThat(moveRecords).extracting(MoveRecord::getCapturedPieceId)
+            .containsExactly(null, 2L);
+        assertThat(game.getPly()).isEqualTo(2);
+        assertThat(game.countPendingPlies()).isEqualTo(2);
+        assertThat(game.drainChanges().getMoveRecords()).isEmpty();
+    }
+
+    @DisplayName("저장에 실패한 변경 사항은 이후 변경 사항과 합쳐진다.")
+    @Test
+    void restoreChanges() {
+        // given
+        game.move("a1", "a3", Team.WHITE);
+        final GameChangeSet failedChangeSet = game.drainChanges();
+        game.move("b7", "b6", Team.BLACK);
+
+        // when
+        game.restoreChanges(failedChangeSet);
+        final GameChangeSet changeSet = game.drainChanges();
+
+        // then
+        assertThat(changeSet.getMovedPieces()).containsExactly(
+            entry(2L, Location.of(1, 3)),
+            entry(4L, Location.of(2, 6))
+        );
+        assertThat(changeSet.getTurn()).isEqualTo(Team.WHITE);
+    }
+
+    @DisplayName("요청한 수가 현재 수와 다르면 충돌 예외가 발생한다.")
+    @Test
+    void validatePly() {
+        // given
+        game.move("a1", "a3", Team.WHITE);
+
+        // when, then
+        assertThatCode(() -> game.validatePly(1)).doesNotThrowAnyException();
+        assertThatCode(() -> game.validatePly(null)).doesNotThrowAnyException();
+        assertThatThrownBy(() -> game.validatePly(0))
+            .isInstanceOf(GameConflictException.class);
+    }
+
+    @DisplayName("다음 수를 가져오면 그 수로 말을 움직인다.")
+    @Test
+    void move_claimPly() {
+        // given
+        final List<Integer> claimedPlies = new ArrayList<>();
+
+        // when
+        game.move("a1", "a3", Team.WHITE, claimedPlies::add);
+
+        // then
+        assertThat(claimedPlies).containsExactly(1);
+        assertThat(game.getPly()).isEqualTo(1);
+        assertThat(game.getBoard().isExistent(Location.of(1, 3))).isTrue();
+    }
+
+    @DisplayName("다른 곳에서 같은 수를 먼저 가져갔으면 말을 움직이지 않고 충돌 예외가 발생한다.")
+    @Test
+    void move_conflict() {
+        // when, then
+        assertThatThrownBy(() -> game.move("a1", "a3", Team.WHITE, ply -> false))
+            .isInstanceOf(GameConflictException.class);
+        assertThat(game.getPly()).isZero();
+        assertThat(game.getTurn()).isEqualTo(Team.WHITE);
+        assertThat(game.countPendingPlies()).isZero();
+        assertThat(game.getBoard().isExistent(Location.of(1, 1))).isTrue();
+    }
+
+    @DisplayName("둘 수 없는 수는 다음 수를 가져가지 않는다.")
+    @Test
+    void move_invalidWithoutClaim() {
+        // given
+        final List<Integer> claimedPlies = new ArrayList<>();
+
+        // when, then
+        assertThatThrownBy(() -> game.move("a1", "b2", Team.WHITE, claimedPlies::add))
+            .isInstanceOf(MoveFailureException.class);
+        assertThat(claimedPlies).isEmpty();
+    }
+
+    @DisplayName("저장된 수는 저장을 표시할 때만 바뀐다.")
+    @Test
+    void markPersisted() {
+        // given
+        game.move("a1", "a3", Team.WHITE);
+
+        // when, then
+        assertThat(game.getPersistedPly()).isZero();
+        game.markPersisted(game.getPly());
+        assertThat(game.getPersistedPly()).isEqualTo(1);
+    }
+
+}
@@ -0,0 +1,151 @@
+package chess.domain.game.board;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import chess.domain.game.board.piece.PieceType;
+import chess.domain.game.board.piece.location.Location;
+import chess.domain.game.team.Team;
+import chess.utils.BoardUtil;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class AlphaBetaSearchTest {
+
+    private static final char[][] HANGING_QUEEN_BOARD = {
+        {'.', '.', '.', '.', '.', '.', '.', 'K'},
+        {'.', '.', '.', '.', '.', '.', 'P', 'P'},
+        {'.', '.', '.', '.', '.', '.', '.', '.'},
+        {'Q', '.', '.', '.', '.', '.', '.', '.'},
+        {'.', '.', '.', '.', '.', '.', '.', '.'},
+        {'.', '.', '.', '.', '.', '.', '.', '.'},
+        {'.', '.', '.', '.', '.', 'p', 'p', 'p'},
+        {'r', '.', '.', '.', '.', '.', 'k', '.'}
+    };
+
+    private static final char[][] BACK_RANK_MATE_BOARD = {
+        {'.', '.', '.', '.', '.', '.', '.', 'K'},
+        {'.', '.', '.', '.', '.', '.', 'P', 'P'},
+        {'.', '.', '.', '.', '.', '.', '.', '.'},
+        {'.', '.', '.', '.', '.', '.', '.', '.'},
+        {'.', '.', '.', '.', '.', '.', '.', '.'},
+        {'.', '.', '.', '.', '.', '.', '.', '.'},
+        {'.', '.', '.', '.', '.', 'p', 'p', 'p'},
+        {'r', '.', '.', '.', '.', '.', 'k', '.'}
+    };
+
+    private static final long ENOUGH_TIME = TimeUnit.SECONDS.toNanos(30L);
+
+    @DisplayName("지켜지지 않은 퀸이 있으면 잡는 수를 고른다.")
+    @Test
+    void search_capture() {
+        // given
+        final Board board = BoardUtil.generateBoard(HANGING_QUEEN_BOARD);
+
+        // when
+        final SearchResult searchResult = AlphaBetaSearch.search(board, Team.WHITE, 3,
+            System.nanoTime() + ENOUGH_TIME);
+
+        // then
+        assertThat(searchResult.getSource()).isEqualTo(Location.convert("a1"));
+        assertThat(searchResult.getTarget()).isEqualTo(Location.convert("a5"));
+        assertThat(searchResult.getScore()).isGreaterThan(
+            board.evaluate(Team.WHITE) + Evaluation.materialValue(PieceType.ROOK));
+    }
+
+    @DisplayName("한 수 만에 체크메이트할 수 있으면 그 수를 고르고 결정적인 점수를 돌려준다.")
+    @Test
+    void search_mate() {
+        // given
+        final Board board = BoardUtil.generateBoard(BACK_RANK_MATE_BOARD);
+
+        // when
+        final SearchResult searchResult = AlphaBetaSearch.search(board, Team.WHITE, 4,
+            System.nanoTime() + ENOUGH_TIME);
+
+        // then
+        assertThat(searchResult.getSource()).isEqualTo(Location.convert("a1"));
+        assertThat(searchResult.getTarget()).isEqualTo(Location.convert("a8"));
+        assertThat(searchResult.getScore()).isGreaterThan(AlphaBetaSearch.MATE_SCORE - 10);
+    }
+
+    @DisplayName("제한 시간이 이미 지났어도 둘 수 있는 수를 돌려준다.")
+    @Test
+    void search_deadline() {
+        // given
+        final Board board = Board.createWithInitialLocation();
+        final MoveBuffer legalMoves = new MoveBuffer();
+        MoveGenerator.generateLegalMoves(board, Team.WHITE, legalMoves);
+
+        // when
+        final SearchResult searchResult = AlphaBetaSearch.search(board, Team.WHITE,
+            AlphaBetaSearch.MAX_DEPTH, System.nanoTime());
+
+        // then
+        assertThat(searchResult.hasMove()).isTrue();
+        assertThat(legalMoves.contains(searchResult.getSource(), searchResult.getTarget()))
+            .isTrue();
+    }
+
+    @DisplayName("탐색해도 원래 보드는 바뀌지 않는다.")
+    @Test
+    void search_keepBoard() {
+        // given
+        final Board board = Board.createWithInitialLocation();
+        final long zobristKey = board.zobristKey(Team.WHITE);
+
+        // when
+        AlphaBetaSearch.search(board, Team.WHITE, 3, System.nanoTime() + ENOUGH_TIME);
+
+        // then
+        assertThat(board.zobristKey(Team.WHITE)).isEqualTo(zobristKey);
+    }
+
+    @DisplayName("탐색 깊이가 범위를 벗어나면 예외가 발생한다.")
+    @Test
+    void search_invalidDepth() {
+        final Board board = Board.createWithInitialLocation();
+
+        assertThatThrownBy(() -> AlphaBetaSearch.search(board, Team.WHITE, 0, System.nanoTime()))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @DisplayName("깊이 하나를 마칠 때마다 그 깊이의 결과를 차례로 넘겨준다.")
+    @Test
+    void search_onIteration() {
+        // given
+        final Board board = Board.createWithInitialLocation();
+        final List<Integer> depths = new ArrayList<>();
+
+        // when
+        final SearchResult searchResult = AlphaBetaSearch.search(board, Team.WHITE, 3,
+            System.nanoTime() + ENOUGH_TIME, new TranspositionTable(1), new AtomicBoolean(),
+            iteration -> depths.add(iteration.getDepth()));
+
+        // then
+        assertThat(depths).containsExactly(1, 2, 3);
+        assertThat(searchResult.getDepth()).isEqualTo(3);
+    }
+
+    @DisplayName("중단 신호를 받으면 제한 시간 전이라도 마지막으로 마친 깊이의 결과를 돌려준다.")
+    @Test
+    void search_stopped() {
+        // given
+        final Board board = Board.createWithInitialLocation();
+        final AtomicBoolean stopped = new AtomicBoolean();
+
+        // when
+        final SearchResult searchResult = AlphaBetaSearch.search(board, Team.WHITE,
+            AlphaBetaSearch.MAX_DEPTH, System.nanoTime() + ENOUGH_TIME, new TranspositionTable(1),
+            stopped, iteration -> stopped.set(iteration.getDepth() >= 2));
+
+        // then
+        assertThat(searchResult.getDepth()).isEqualTo(2);
+        assertThat(searchResult.hasMove()).isTrue();
+    }
+
+}
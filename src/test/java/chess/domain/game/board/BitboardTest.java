@@ -0,0 +1,79 @@
+package chess.domain.game.board;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import chess.domain.game.board.piece.location.Location;
+import chess.domain.game.team.Team;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class BitboardTest {
+
+    @DisplayName("위치마다 서로 다른 한 개의 비트를 가진다.")
+    @Test
+    void of() {
+        assertThat(Bitboard.of(Location.of(1, 1))).isEqualTo(1L);
+        assertThat(Bitboard.of(Location.of(2, 1))).isEqualTo(1L << 1);
+        assertThat(Bitboard.of(Location.of(1, 2))).isEqualTo(1L << 8);
+        assertThat(Bitboard.of(Location.of(8, 8))).isEqualTo(1L << 63);
+    }
+
+    @DisplayName("직선 또는 대각선 위의 두 위치 사이의 칸들을 구한다.")
+    @Test
+    void between() {
+        final long vertical = Bitboard.of(Location.of(1, 2)) | Bitboard.of(Location.of(1, 3));
+        final long diagonal = Bitboard.of(Location.of(2, 2)) | Bitboard.of(Location.of(3, 3));
+
+        assertThat(Bitboard.between(Location.of(1, 1), Location.of(1, 4))).isEqualTo(vertical);
+        assertThat(Bitboard.between(Location.of(1, 4), Location.of(1, 1))).isEqualTo(vertical);
+        assertThat(Bitboard.between(Location.of(1, 1), Location.of(4, 4))).isEqualTo(diagonal);
+    }
+
+    @DisplayName("인접하거나 일직선 위에 있지 않은 두 위치 사이에는 칸이 없다.")
+    @Test
+    void between_empty() {
+        assertThat(Bitboard.between(Location.of(1, 1), Location.of(2, 2))).isZero();
+        assertThat(Bitboard.between(Location.of(1, 1), Location.of(2, 3))).isZero();
+    }
+
+    @DisplayName("나이트와 킹의 공격 칸은 보드 밖을 포함하지 않는다.")
+    @Test
+    void stepAttacks() {
+        final int corner = Location.of(1, 1).toIndex();
+
+        assertThat(Bitboard.knightAttacks(corner)).isEqualTo(
+            Bitboard.of(Location.of(2, 3)) | Bitboard.of(Location.of(3, 2))
+        );
+        assertThat(Long.bitCount(Bitboard.kingAttacks(corner))).isEqualTo(3);
+        assertThat(Long.bitCount(Bitboard.knightAttacks(Location.of(4, 4).toIndex())))
+            .isEqualTo(8);
+    }
+
+    @DisplayName("룩과 비숍은 직선과 대각선 방향의 모든 칸을 가진다.")
+    @Test
+    void rays() {
+        final int square = Location.of(4, 4).toIndex();
+
+        assertThat(Long.bitCount(Bitboard.rookRays(square))).isEqualTo(14);
+        assertThat(Long.bitCount(Bitboard.bishopRays(square))).isEqualTo(13);
+        assertThat(Bitboard.rookRays(square) & Bitboard.bishopRays(square)).isZero();
+    }
+
+    @DisplayName("폰은 처음 위치에서만 두 칸 전진할 수 있고, 앞쪽 대각선으로 잡는다.")
+    @Test
+    void pawn() {
+        final int whiteInitial = Location.of(5, 2).toIndex();
+        final int blackMoved = Location.of(5, 6).toIndex();
+
+        assertThat(Bitboard.pawnPushes(Team.WHITE, whiteInitial)).isEqualTo(
+            Bitboard.of(Location.of(5, 3)) | Bitboard.of(Location.of(5, 4))
+        );
+        assertThat(Bitboard.pawnPushes(Team.BLACK, blackMoved))
+            .isEqualTo(Bitboard.of(Location.of(5, 5)));
+        assertThat(Bitboard.pawnCaptures(Team.BLACK, blackMoved)).isEqualTo(
+            Bitboard.of(Location.of(4, 5)) | Bitboard.of(Location.of(6, 5))
+        );
+        assertThat(Bitboard.pawnPushes(Team.WHITE, Location.of(5, 8).toIndex())).isZero();
+    }
+
+}
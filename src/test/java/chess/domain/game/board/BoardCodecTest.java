@@ -0,0 +1,87 @@
+package chess.domain.game.board;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import chess.domain.game.board.piece.Piece;
+import chess.domain.game.board.piece.location.Location;
+import chess.domain.game.team.Team;
+import chess.utils.BoardUtil;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class BoardCodecTest {
+
+    private static final char[][] TEST_BOARD = {
+        {'R', 'N', '.', 'Q', 'K', 'B', '.', '.'},
+        {'.', '.', '.', '.', '.', '.', '.', '.'},
+        {'.', '.', '.', '.', '.', '.', 'N', 'R'},
+        {'.', '.', '.', '.', '.', '.', '.', 'p'},
+        {'.', '.', '.', '.', '.', '.', '.', '.'},
+        {'.', '.', 'B', '.', '.', 'p', '.', '.'},
+        {'.', '.', '.', '.', 'P', '.', 'p', '.'},
+        {'r', 'n', 'b', 'q', 'k', 'b', 'n', 'r'}
+    };
+
+    @DisplayName("보드는 칸마다 4비트와 차례 1바이트로 인코딩된다.")
+    @Test
+    void encode() {
+        // when
+        final byte[] encoded = BoardCodec.encode(Board.createWithInitialLocation(), Team.BLACK);
+
+        // then
+        assertThat(encoded).hasSize(33);
+        assertThat(BoardCodec.decodeTurn(encoded)).isEqualTo(Team.BLACK);
+    }
+
+    @DisplayName("인코딩한 보드를 디코딩하면 같은 위치에 같은 말이 놓인다.")
+    @Test
+    void decodeBoard() {
+        // given
+        final Board board = BoardUtil.generateBoard(TEST_BOARD);
+
+        // when
+        final Board decodedBoard = BoardCodec.decodeBoard(BoardCodec.encode(board, Team.WHITE));
+
+        // then
+        assertThat(decodedBoard.toList()).hasSameSizeAs(board.toList());
+        for (final Piece piece : board.toList()) {
+            final Piece decodedPiece = decodedBoard.find(piece.getLocation());
+            assertThat(decodedPiece.getPieceType()).isEqualTo(piece.getPieceType());
+            assertThat(decodedPiece.getTeam()).isEqualTo(piece.getTeam());
+        }
+        assertThat(decodedBoard.isExistent(Location.of(1, 5))).isFalse();
+    }
+
+    @DisplayName("크기가 맞지 않는 인코딩은 디코딩할 수 없다.")
+    @Test
+    void decodeBoard_wrongSize() {
+        assertThatThrownBy(() -> BoardCodec.decodeBoard(new byte[32]))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @DisplayName("알 수 없는 기물 값이 있는 인코딩은 디코딩할 수 없다.")
+    @Test
+    void decodeBoard_unknownPiece() {
+        // given
+        final byte[] encoded = new byte[BoardCodec.ENCODED_SIZE];
+        encoded[0] = 0x07;
+
+        // when, then
+        assertThatThrownBy(() -> BoardCodec.decodeBoard(encoded))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @DisplayName("차례 값이 잘못된 인코딩은 디코딩할 수 없다.")
+    @Test
+    void decodeTurn_wrongTurn() {
+        // given
+        final byte[] encoded = new byte[BoardCodec.ENCODED_SIZE];
+        encoded[BoardCodec.ENCODED_SIZE - 1] = 2;
+
+        // when, then
+        assertThatThrownBy(() -> BoardCodec.decodeTurn(encoded))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+}
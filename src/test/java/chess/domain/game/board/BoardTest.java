@@ -8,6 +8,7 @@ import chess.domain.game.board.piece.Piece;
 import chess.domain.game.board.piece.location.Location;
 import chess.domain.game.team.Team;
 import chess.utils.BoardUtil;
+import java.util.ArrayList;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -321,4 +322,142 @@ class BoardTest {
         ).isInstanceOf(MoveFailureException.class);
     }
 
+    @DisplayName("이동 검증은 예외 대신 실패 사유를 결과로 반환한다.")
+    @Test
+    void checkMove() {
+        assertThat(initialBoard.checkMove(Location.of(1, 1), Location.of(1, 1), Team.WHITE))
+            .isEqualTo(MoveResult.SAME_LOCATION);
+        assertThat(initialBoard.checkMove(Location.of(1, 4), Location.of(1, 5), Team.WHITE))
+            .isEqualTo(MoveResult.EMPTY_SOURCE);
+        assertThat(initialBoard.checkMove(Location.of(1, 7), Location.of(1, 6), Team.WHITE))
+            .isEqualTo(MoveResult.OTHER_TEAM_PIECE);
+        assertThat(initialBoard.checkMove(Location.of(1, 1), Location.of(2, 3), Team.WHITE))
+            .isEqualTo(MoveResult.INCAPABLE_MOVE);
+        assertThat(initialBoard.checkMove(Location.of(1, 1), Location.of(1, 2), Team.WHITE))
+            .isEqualTo(MoveResult.SAME_TEAM_AT_TARGET);
+        assertThat(initialBoard.checkMove(Location.of(1, 1), Location.of(1, 3), Team.WHITE))
+            .isEqualTo(MoveResult.BLOCKED_PATH);
+        assertThat(testBoard.checkMove(Location.of(6, 3), Location.of(5, 4), Team.WHITE))
+            .isEqualTo(MoveResult.PAWN_IMMOVABLE);
+        assertThat(initialBoard.checkMove(Location.of(2, 1), Location.of(3, 3), Team.WHITE))
+            .isEqualTo(MoveResult.SUCCESS);
+    }
+
+    @DisplayName("말이 이동하면 이전 위치는 비고, 목표 위치에 말이 존재한다.")
+    @Test
+    void isExistent_afterMove() {
+        // given
+        Location source = Location.of(2, 1);
+        Location target = Location.of(3, 3);
+
+        // when
+        initialBoard.move(source, target, Team.WHITE);
+
+        // then
+        assertThat(initialBoard.isExistent(source)).isFalse();
+        assertThat(initialBoard.isExistent(target)).isTrue();
+        assertThatThrownBy(() -> initialBoard.find(source))
+            .isInstanceOf(MoveFailureException.class);
+    }
+
+    @DisplayName("킹이 잡히면 게임이 끝난 상태가 된다.")
+    @Test
+    void isKingCatch() {
+        // given
+        assertThat(testBoard.isKingCatch()).isFalse();
+
+        // when
+        testBoard.move(Location.of(5, 1), Location.of(5, 2), Team.WHITE);
+        testBoard.move(Location.of(4, 8), Location.of(4, 2), Team.BLACK);
+        assertThat(testBoard.isKingCatch()).isFalse();
+        testBoard.move(Location.of(7, 2), Location.of(7, 3), Team.WHITE);
+        testBoard.move(Location.of(4, 2), Location.of(5, 2), Team.BLACK);
+
+        // then
+        assertThat(testBoard.isKingCatch()).isTrue();
+    }
+
+    @DisplayName("같은 배치에 이르면 이동 순서와 관계없이 같은 조브리스트 키를 가진다.")
+    @Test
+    void zobristKey_transposition() {
+        // given
+        final Board otherBoard = Board.createWithInitialLocation();
+
+        // when
+        initialBoard.move(Location.of(2, 1), Location.of(3, 3), Team.WHITE);
+        initialBoard.move(Location.of(7, 1), Location.of(6, 3), Team.WHITE);
+        otherBoard.move(Location.of(7, 1), Location.of(6, 3), Team.WHITE);
+        otherBoard.move(Location.of(2, 1), Location.of(3, 3), Team.WHITE);
+
+        // then
+        assertThat(initialBoard.zobristKey(Team.BLACK))
+            .isEqualTo(otherBoard.zobristKey(Team.BLACK));
+        assertThat(initialBoard.zobristKey(Team.BLACK))
+            .isNotEqualTo(initialBoard.zobristKey(Team.WHITE));
+    }
+
+    @DisplayName("말을 잡은 뒤의 키는 같은 배치로 새로 만든 보드의 키와 같다.")
+    @Test
+    void zobristKey_afterCapture() {
+        // given
+        testBoard.move(Location.of(8, 5), Location.of(7, 6), Team.WHITE);
+
+        // when
+        final Board rebuiltBoard = Board.of(new ArrayList<>(testBoard.toList()));
+
+        // then
+        assertThat(testBoard.zobristKey(Team.BLACK))
+            .isEqualTo(rebuiltBoard.zobristKey(Team.BLACK));
+        assertThat(testBoard.zobristKey(Team.BLACK))
+            .isNotEqualTo(BoardUtil.generateBoard(TEST_BOARD).zobristKey(Team.BLACK));
+    }
+
+    @DisplayName("초기 보드는 두 팀의 기물 점수가 같고 평가값이 0이다.")
+    @Test
+    void score_initial() {
+        assertThat(initialBoard.score(Team.WHITE)).isEqualTo(38.0);
+        assertThat(initialBoard.score(Team.BLACK)).isEqualTo(38.0);
+        assertThat(initialBoard.evaluate(Team.WHITE)).isZero();
+        assertThat(initialBoard.evaluate(Team.BLACK)).isZero();
+    }
+
+    @DisplayName("말을 잡으면 잡힌 팀의 기물 점수가 줄고, 평가값은 같은 배치로 새로 만든 보드와 같다.")
+    @Test
+    void score_afterCapture() {
+        // given
+        final double blackScore = testBoard.score(Team.BLACK);
+
+        // when
+        testBoard.move(Location.of(8, 5), Location.of(7, 6), Team.WHITE);
+        final Board rebuiltBoard = Board.of(new ArrayList<>(testBoard.toList()));
+
+        // then
+        assertThat(testBoard.score(Team.BLACK)).isEqualTo(blackScore - 2.5);
+        assertThat(testBoard.evaluate(Team.WHITE)).isEqualTo(rebuiltBoard.evaluate(Team.WHITE));
+        assertThat(testBoard.evaluate(Team.BLACK)).isEqualTo(-testBoard.evaluate(Team.WHITE));
+    }
+
+    @DisplayName("말을 잡는 수를 두었다가 되돌리면 키, 평가값, 말 목록이 원래대로 돌아온다.")
+    @Test
+    void makeMove_unmakeMove() {
+        // given
+        final long zobristKey = testBoard.zobristKey(Team.WHITE);
+        final int evaluation = testBoard.evaluate(Team.WHITE);
+        final int pieceCount = testBoard.toList().size();
+        final int move = MoveBuffer.pack(Location.of(8, 5).toIndex(), Location.of(7, 6).toIndex());
+
+        // when
+        final Piece capturedPiece = testBoard.makeMove(move);
+        final Board rebuiltBoard = Board.of(new ArrayList<>(testBoard.toList()));
+        testBoard.unmakeMove(move, capturedPiece);
+
+        // then
+        assertThat(capturedPiece).isNotNull();
+        assertThat(rebuiltBoard.evaluate(Team.WHITE)).isNotEqualTo(evaluation);
+        assertThat(testBoard.zobristKey(Team.WHITE)).isEqualTo(zobristKey);
+        assertThat(testBoard.evaluate(Team.WHITE)).isEqualTo(evaluation);
+        assertThat(testBoard.toList()).hasSize(pieceCount);
+        assertThat(testBoard.find(Location.of(8, 5)).isPawn()).isTrue();
+    }
+
 }
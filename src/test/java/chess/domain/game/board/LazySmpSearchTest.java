@@ -0,0 +1,122 @@
+package chess.domain.game.board;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import chess.domain.game.board.piece.location.Location;
+import chess.domain.game.team.Team;
+import chess.utils.BoardUtil;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class LazySmpSearchTest {
+
+    private static final char[][] BACK_RANK_MATE_BOARD = {
+        {'.', '.', '.', '.', '.', '.', '.', 'K'},
+        {'.', '.', '.', '.', '.', '.', 'P', 'P'},
+        {'.', '.', '.', '.', '.', '.', '.', '.'},
+        {'.', '.', '.', '.', '.', '.', '.', '.'},
+        {'.', '.', '.', '.', '.', '.', '.', '.'},
+        {'.', '.', '.', '.', '.', '.', '.', '.'},
+        {'.', '.', '.', '.', '.', 'p', 'p', 'p'},
+        {'r', '.', '.', '.', '.', '.', 'k', '.'}
+    };
+
+    private static final long ENOUGH_TIME = TimeUnit.SECONDS.toNanos(30L);
+    private static final long BUSY_TIME = TimeUnit.MILLISECONDS.toNanos(200L);
+
+    @DisplayName("보조 스레드와 함께 탐색해도 체크메이트하는 수를 찾는다.")
+    @Test
+    void search_mate() {
+        // given
+        final Board board = BoardUtil.generateBoard(BACK_RANK_MATE_BOARD);
+        final ExecutorService helperExecutor = Executors.newFixedThreadPool(3);
+
+        try {
+            // when
+            final SearchResult searchResult = LazySmpSearch.search(board, Team.WHITE, 4,
+                System.nanoTime() + ENOUGH_TIME, new TranspositionTable(1), 3, helperExecutor);
+
+            // then
+            assertThat(searchResult.getSource()).isEqualTo(Location.convert("a1"));
+            assertThat(searchResult.getTarget()).isEqualTo(Location.convert("a8"));
+        } finally {
+            helperExecutor.shutdownNow();
+        }
+    }
+
+    @DisplayName("호출한 스레드의 탐색이 끝나면 보조 스레드도 멈추고, 노드 수는 모든 스레드의 합이다.")
+    @Test
+    void search_stopHelpers() {
+        // given
+        final Board board = Board.createWithInitialLocation();
+        final ExecutorService helperExecutor = Executors.newFixedThreadPool(2);
+
+        try {
+            // when
+            final SearchResult searchResult = LazySmpSearch.search(board, Team.WHITE, 3,
+                System.nanoTime() + ENOUGH_TIME, new TranspositionTable(1), 2, helperExecutor);
+
+            // then
+            assertThat(searchResult.hasMove()).isTrue();
+            assertThat(searchResult.getDepth()).isEqualTo(3);
+            assertThat(searchResult.getNodes()).isPositive();
+        } finally {
+            helperExecutor.shutdownNow();
+        }
+    }
+
+    @DisplayName("보조 스레드가 없으면 단일 탐색과 같은 결과를 낸다.")
+    @Test
+    void search_withoutHelpers() {
+        // given
+        final Board board = Board.createWithInitialLocation();
+        final ExecutorService helperExecutor = Executors.newSingleThreadExecutor();
+
+        try {
+            // when
+            final SearchResult parallel = LazySmpSearch.search(board, Team.WHITE, 3,
+                System.nanoTime() + ENOUGH_TIME, new TranspositionTable(1), 0, helperExecutor);
+            final SearchResult single = AlphaBetaSearch.search(board, Team.WHITE, 3,
+                System.nanoTime() + ENOUGH_TIME, new TranspositionTable(1));
+
+            // then
+            assertThat(parallel.getMove()).isEqualTo(single.getMove());
+            assertThat(parallel.getScore()).isEqualTo(single.getScore());
+            assertThat(parallel.getNodes()).isEqualTo(single.getNodes());
+        } finally {
+            helperExecutor.shutdownNow();
+        }
+    }
+
+    @DisplayName("호출한 스레드의 탐색이 실패해도 보조 스레드가 끝난 뒤에 돌아온다.")
+    @Test
+    void search_awaitHelpersOnFailure() {
+        // given
+        final Board board = Board.createWithInitialLocation();
+        final ExecutorService helperExecutor = Executors.newSingleThreadExecutor();
+        final AtomicBoolean isBusyTaskDone = new AtomicBoolean();
+        helperExecutor.execute(() -> {
+            LockSupport.parkNanos(BUSY_TIME);
+            isBusyTaskDone.set(true);
+        });
+
+        try {
+            // when
+            assertThatThrownBy(() -> LazySmpSearch.search(board, Team.WHITE, 0,
+                System.nanoTime() + ENOUGH_TIME, new TranspositionTable(1), 1, helperExecutor))
+                .isInstanceOf(IllegalArgumentException.class);
+
+            // then
+            assertThat(isBusyTaskDone).isTrue();
+        } finally {
+            helperExecutor.shutdownNow();
+        }
+    }
+
+}
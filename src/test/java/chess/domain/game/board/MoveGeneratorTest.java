@@ -0,0 +1,95 @@
+package chess.domain.game.board;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import chess.domain.game.board.piece.location.Location;
+import chess.domain.game.team.Team;
+import chess.utils.BoardUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class MoveGeneratorTest {
+
+    private static final char[][] PINNED_BOARD = {
+        {'.', '.', '.', '.', 'K', '.', '.', '.'},
+        {'.', '.', '.', '.', 'R', '.', '.', '.'},
+        {'.', '.', '.', '.', '.', '.', '.', '.'},
+        {'.', '.', '.', '.', '.', '.', '.', '.'},
+        {'.', '.', '.', '.', '.', '.', '.', '.'},
+        {'.', '.', '.', '.', '.', '.', '.', '.'},
+        {'.', '.', '.', '.', 'b', '.', '.', '.'},
+        {'.', '.', '.', '.', 'k', '.', '.', '.'}
+    };
+
+    private MoveBuffer moveBuffer;
+
+    @BeforeEach
+    void setUp() {
+        moveBuffer = new MoveBuffer();
+    }
+
+    @DisplayName("초기 보드에서 흰색 팀은 20가지 수를 둘 수 있다.")
+    @Test
+    void generatePseudoLegalMoves_initial() {
+        // given
+        Board board = Board.createWithInitialLocation();
+
+        // when
+        MoveGenerator.generatePseudoLegalMoves(board, Team.WHITE, moveBuffer);
+
+        // then
+        assertThat(moveBuffer.size()).isEqualTo(20);
+        assertThat(moveBuffer.contains(Location.of(2, 1), Location.of(3, 3))).isTrue();
+        assertThat(moveBuffer.contains(Location.of(5, 2), Location.of(5, 4))).isTrue();
+        assertThat(moveBuffer.contains(Location.of(1, 1), Location.of(1, 3))).isFalse();
+    }
+
+    @DisplayName("생성된 수는 모두 보드에서 이동 가능한 수이다.")
+    @Test
+    void generatePseudoLegalMoves_movable() {
+        // given
+        Board board = BoardUtil.generateBoard(PINNED_BOARD);
+
+        // when
+        MoveGenerator.generatePseudoLegalMoves(board, Team.WHITE, moveBuffer);
+
+        // then
+        for (int i = 0; i < moveBuffer.size(); i++) {
+            assertThat(board.isMovable(moveBuffer.source(i), moveBuffer.target(i), Team.WHITE))
+                .isTrue();
+        }
+        assertThat(moveBuffer.contains(Location.of(5, 2), Location.of(6, 3))).isTrue();
+    }
+
+    @DisplayName("킹이 공격받게 되는 수는 합법적인 수에서 제외된다.")
+    @Test
+    void generateLegalMoves_pinned() {
+        // given
+        Board board = BoardUtil.generateBoard(PINNED_BOARD);
+
+        // when
+        MoveGenerator.generateLegalMoves(board, Team.WHITE, moveBuffer);
+
+        // then
+        assertThat(moveBuffer.contains(Location.of(5, 2), Location.of(6, 3))).isFalse();
+        assertThat(moveBuffer.contains(Location.of(5, 1), Location.of(4, 1))).isTrue();
+        assertThat(moveBuffer.contains(Location.of(5, 1), Location.of(4, 2))).isTrue();
+    }
+
+    @DisplayName("이미 채워진 버퍼는 수를 생성하기 전에 비워진다.")
+    @Test
+    void generate_reuseBuffer() {
+        // given
+        Board board = Board.createWithInitialLocation();
+        MoveGenerator.generatePseudoLegalMoves(board, Team.WHITE, moveBuffer);
+
+        // when
+        MoveGenerator.generatePseudoLegalMoves(board, Team.BLACK, moveBuffer);
+
+        // then
+        assertThat(moveBuffer.size()).isEqualTo(20);
+        assertThat(moveBuffer.contains(Location.of(2, 8), Location.of(3, 6))).isTrue();
+    }
+
+}
@@ -0,0 +1,70 @@
+package chess.domain.game.board;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import chess.domain.game.team.Team;
+import chess.utils.BoardUtil;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PerftTest {
+
+    private static final char[][] ENDGAME_BOARD = {
+        {'.', '.', '.', '.', '.', '.', '.', '.'},
+        {'.', '.', 'P', '.', '.', '.', '.', '.'},
+        {'.', '.', '.', 'P', '.', '.', '.', '.'},
+        {'k', 'p', '.', '.', '.', '.', '.', 'R'},
+        {'.', 'r', '.', '.', '.', 'P', '.', 'K'},
+        {'.', '.', '.', '.', '.', '.', '.', '.'},
+        {'.', '.', '.', '.', 'p', '.', 'p', '.'},
+        {'.', '.', '.', '.', '.', '.', '.', '.'}
+    };
+
+    @DisplayName("초기 보드의 깊이별 노드 수는 알려진 perft 값과 같다.")
+    @Test
+    void count_initial() {
+        final Board board = Board.createWithInitialLocation();
+
+        assertThat(Perft.count(board, Team.WHITE, 0)).isEqualTo(1L);
+        assertThat(Perft.count(board, Team.WHITE, 1)).isEqualTo(20L);
+        assertThat(Perft.count(board, Team.WHITE, 2)).isEqualTo(400L);
+        assertThat(Perft.count(board, Team.WHITE, 3)).isEqualTo(8_902L);
+        assertThat(Perft.count(board, Team.WHITE, 4)).isEqualTo(197_281L);
+    }
+
+    @DisplayName("앙파상이 없는 규칙에서 엔드게임 보드의 노드 수는 알려진 값에서 앙파상 수를 뺀 값이다.")
+    @Test
+    void count_endgame() {
+        final Board board = BoardUtil.generateBoard(ENDGAME_BOARD);
+
+        assertThat(Perft.count(board, Team.WHITE, 1)).isEqualTo(14L);
+        assertThat(Perft.count(board, Team.WHITE, 2)).isEqualTo(191L);
+        assertThat(Perft.count(board, Team.WHITE, 3)).isEqualTo(2_810L);
+    }
+
+    @DisplayName("루트를 나누어 병렬로 세어도 노드 수가 같다.")
+    @Test
+    void countParallel() {
+        final Board board = Board.createWithInitialLocation();
+        final ForkJoinPool forkJoinPool = new ForkJoinPool(4);
+        try {
+            assertThat(Perft.countParallel(board, Team.WHITE, 4, forkJoinPool))
+                .isEqualTo(Perft.count(board, Team.WHITE, 4));
+        } finally {
+            forkJoinPool.shutdown();
+        }
+    }
+
+    @DisplayName("노드를 세어도 원래 보드는 바뀌지 않는다.")
+    @Test
+    void count_keepBoard() {
+        final Board board = Board.createWithInitialLocation();
+        final long zobristKey = board.zobristKey(Team.WHITE);
+
+        Perft.count(board, Team.WHITE, 3);
+
+        assertThat(board.zobristKey(Team.WHITE)).isEqualTo(zobristKey);
+    }
+
+}
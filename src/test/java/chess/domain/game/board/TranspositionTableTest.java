@@ -0,0 +1,113 @@
+package chess.domain.game.board;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import chess.domain.game.team.Team;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TranspositionTableTest {
+
+    private static final long KEY = 0x1234_5678_9ABC_DEF0L;
+
+    @DisplayName("저장한 수, 점수, 깊이, 경계를 그대로 꺼낸다.")
+    @Test
+    void probe() {
+        // given
+        final TranspositionTable transpositionTable = new TranspositionTable(1);
+        final int move = MoveBuffer.pack(12, 28);
+
+        // when
+        transpositionTable.store(KEY, move, -350, 5, TranspositionTable.UPPER_BOUND);
+        final long entry = transpositionTable.probe(KEY);
+
+        // then
+        assertThat(entry).isNotEqualTo(TranspositionTable.MISS);
+        assertThat(TranspositionTable.moveOf(entry)).isEqualTo(move);
+        assertThat(TranspositionTable.scoreOf(entry)).isEqualTo(-350);
+        assertThat(TranspositionTable.depthOf(entry)).isEqualTo(5);
+        assertThat(TranspositionTable.boundOf(entry)).isEqualTo(TranspositionTable.UPPER_BOUND);
+    }
+
+    @DisplayName("같은 칸을 쓰는 다른 키로는 꺼낼 수 없다.")
+    @Test
+    void probe_otherKey() {
+        // given
+        final TranspositionTable transpositionTable = new TranspositionTable(1);
+        final long otherKey = KEY + transpositionTable.capacity();
+
+        // when
+        transpositionTable.store(KEY, MoveBuffer.pack(12, 28), 10, 3, TranspositionTable.EXACT);
+
+        // then
+        assertThat(transpositionTable.probe(otherKey)).isEqualTo(TranspositionTable.MISS);
+    }
+
+    @DisplayName("같은 탐색에서는 더 얕은 다른 국면이 깊은 항목을 덮어쓰지 않는다.")
+    @Test
+    void store_depthPreferred() {
+        // given
+        final TranspositionTable transpositionTable = new TranspositionTable(1);
+        final long otherKey = KEY + transpositionTable.capacity();
+        transpositionTable.store(KEY, MoveBuffer.pack(12, 28), 10, 6, TranspositionTable.EXACT);
+
+        // when
+        transpositionTable.store(otherKey, MoveBuffer.pack(1, 18), 20, 2,
+            TranspositionTable.EXACT);
+
+        // then
+        assertThat(transpositionTable.probe(KEY)).isNotEqualTo(TranspositionTable.MISS);
+        assertThat(transpositionTable.probe(otherKey)).isEqualTo(TranspositionTable.MISS);
+    }
+
+    @DisplayName("새 탐색이 시작되면 이전 탐색의 항목은 얕은 항목으로도 덮어쓴다.")
+    @Test
+    void store_newSearch() {
+        // given
+        final TranspositionTable transpositionTable = new TranspositionTable(1);
+        final long otherKey = KEY + transpositionTable.capacity();
+        transpositionTable.store(KEY, MoveBuffer.pack(12, 28), 10, 6, TranspositionTable.EXACT);
+
+        // when
+        transpositionTable.newSearch();
+        transpositionTable.store(otherKey, MoveBuffer.pack(1, 18), 20, 2,
+            TranspositionTable.EXACT);
+
+        // then
+        assertThat(transpositionTable.probe(KEY)).isEqualTo(TranspositionTable.MISS);
+        assertThat(TranspositionTable.scoreOf(transpositionTable.probe(otherKey))).isEqualTo(20);
+    }
+
+    @DisplayName("테이블을 공유해 다시 탐색해도 같은 수를 더 적은 노드로 찾는다.")
+    @Test
+    void search_shared() {
+        // given
+        final Board board = Board.createWithInitialLocation();
+        final TranspositionTable transpositionTable = new TranspositionTable(16);
+        final long enoughTime = TimeUnit.SECONDS.toNanos(30L);
+        final SearchResult first = AlphaBetaSearch.search(board, Team.WHITE, 4,
+            System.nanoTime() + enoughTime, transpositionTable);
+
+        // when
+        transpositionTable.newSearch();
+        final SearchResult second = AlphaBetaSearch.search(board, Team.WHITE, 4,
+            System.nanoTime() + enoughTime, transpositionTable);
+
+        // then
+        assertThat(second.getMove()).isEqualTo(first.getMove());
+        assertThat(second.getScore()).isEqualTo(first.getScore());
+        assertThat(second.getNodes()).isLessThan(first.getNodes());
+    }
+
+    @DisplayName("크기가 범위를 벗어나면 예외가 발생한다.")
+    @Test
+    void create_invalidSize() {
+        assertThatThrownBy(() -> new TranspositionTable(0))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new TranspositionTable(TranspositionTable.MAX_SIZE_MB + 1))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+}
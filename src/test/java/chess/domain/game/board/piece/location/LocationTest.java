@@ -50,6 +50,21 @@ class LocationTest {
             .isInstanceOf(LocationCacheMissException.class);
     }
 
+    @DisplayName("인덱스와 좌표 문자열 변환")
+    @Test
+    void index_notation() {
+        // given
+        Location location = Location.convert("c5");
+
+        // when
+        int index = location.toIndex();
+
+        // then
+        assertThat(index).isEqualTo(34);
+        assertThat(Location.from(index)).isEqualTo(location);
+        assertThat(location.toNotation()).isEqualTo("c5");
+    }
+
     @DisplayName("수평, 수직 테스트")
     @Test
     void isHorizontalOrVertical_test() {
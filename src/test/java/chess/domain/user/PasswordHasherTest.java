@@ -0,0 +1,57 @@
+package chess.domain.user;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PasswordHasherTest {
+
+    private static final int COST_FACTOR = 4;
+
+    private final PasswordHasher passwordHasher = new PasswordHasher(COST_FACTOR);
+
+    @DisplayName("같은 비밀번호도 솔트가 달라 매번 다르게 해시된다.")
+    @Test
+    void hash_salted() {
+        // when
+        final String first = passwordHasher.hash("password");
+        final String second = passwordHasher.hash("password");
+
+        // then
+        assertThat(first).isNotEqualTo(second);
+        assertThat(passwordHasher.matches("password", first)).isTrue();
+        assertThat(passwordHasher.matches("password", second)).isTrue();
+        assertThat(passwordHasher.matches("wrong", first)).isFalse();
+    }
+
+    @DisplayName("해시되지 않은 기존 비밀번호도 확인하고 다시 해시할 대상으로 본다.")
+    @Test
+    void matches_legacyPassword() {
+        // when, then
+        assertThat(passwordHasher.matches("password", "password")).isTrue();
+        assertThat(passwordHasher.matches("wrong", "password")).isFalse();
+        assertThat(passwordHasher.needsRehash("password")).isTrue();
+    }
+
+    @DisplayName("해시 비용이 바뀌면 기존 해시로 확인하고 다시 해시할 대상으로 본다.")
+    @Test
+    void needsRehash_costFactorChanged() {
+        // given
+        final String encodedPassword = new PasswordHasher(COST_FACTOR - 1).hash("password");
+
+        // when, then
+        assertThat(passwordHasher.matches("password", encodedPassword)).isTrue();
+        assertThat(passwordHasher.needsRehash(encodedPassword)).isTrue();
+        assertThat(passwordHasher.needsRehash(passwordHasher.hash("password"))).isFalse();
+    }
+
+    @DisplayName("해시 비용이 범위를 벗어나면 예외가 발생한다.")
+    @Test
+    void create_invalidCostFactor() {
+        assertThatThrownBy(() -> new PasswordHasher(0))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+}
@@ -0,0 +1,88 @@
+package chess.domain.user;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class UserCacheTest {
+
+    private static final long TTL_MILLIS = 1000L;
+
+    private final AtomicLong clock = new AtomicLong();
+    private UserCache userCache;
+
+    @BeforeEach
+    void setUp() {
+        userCache = new UserCache(2, TTL_MILLIS, clock::get);
+    }
+
+    @DisplayName("캐시된 사용자는 아이디와 이름으로 찾고 적중 횟수를 센다.")
+    @Test
+    void find_hit() {
+        // given
+        final User user = createUser(1L, "pobi");
+        userCache.put(user);
+
+        // when, then
+        assertThat(userCache.findById(1L)).containsSame(user);
+        assertThat(userCache.findByName("pobi")).containsSame(user);
+        assertThat(userCache.findById(2L)).isEmpty();
+        assertThat(userCache.getHitCount()).isEqualTo(2L);
+        assertThat(userCache.getMissCount()).isEqualTo(1L);
+    }
+
+    @DisplayName("유지 시간이 지난 사용자는 찾지 않는다.")
+    @Test
+    void findById_expired() {
+        // given
+        userCache.put(createUser(1L, "pobi"));
+
+        // when
+        clock.addAndGet(TTL_MILLIS);
+
+        // then
+        assertThat(userCache.findById(1L)).isEmpty();
+        assertThat(userCache.findByName("pobi")).isEmpty();
+        assertThat(userCache.size()).isZero();
+    }
+
+    @DisplayName("크기를 넘으면 가장 오래 사용되지 않은 사용자부터 내보낸다.")
+    @Test
+    void put_evictLeastRecentlyUsed() {
+        // given
+        userCache.put(createUser(1L, "pobi"));
+        userCache.put(createUser(2L, "jason"));
+        userCache.findById(1L);
+
+        // when
+        userCache.put(createUser(3L, "brown"));
+
+        // then
+        assertThat(userCache.findById(1L)).isPresent();
+        assertThat(userCache.findById(2L)).isEmpty();
+        assertThat(userCache.findByName("jason")).isEmpty();
+        assertThat(userCache.findById(3L)).isPresent();
+    }
+
+    @DisplayName("이름으로 무효화하면 아이디로도 찾지 않는다.")
+    @Test
+    void invalidateByName() {
+        // given
+        userCache.put(createUser(1L, "pobi"));
+
+        // when
+        userCache.invalidateByName("pobi");
+
+        // then
+        assertThat(userCache.findById(1L)).isEmpty();
+    }
+
+    private User createUser(final long id, final String name) {
+        return new User(id, name, "password", LocalDateTime.now());
+    }
+
+}